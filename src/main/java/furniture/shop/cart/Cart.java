@@ -17,7 +17,9 @@ import java.util.List;
 @DynamicInsert
 public class Cart {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_seq")
+    @SequenceGenerator(name = "cart_seq", sequenceName = "cart_seq", allocationSize = 50)
     private Long id;
 
     @JoinColumn(name = "member_id")
@@ -30,6 +32,10 @@ public class Cart {
     @ColumnDefault("0")
     private int totalPrice;
 
+    // DB 장바구니 변경 번호 (Redis 장바구니와 DB 중 어느 쪽이 최신인지 비교)
+    @ColumnDefault("0")
+    private long revision;
+
     private void setMember(Member member) {
         this.member = member;
     }
@@ -42,6 +48,10 @@ public class Cart {
         this.totalPrice -= price;
     }
 
+    public long increaseRevision() {
+        return ++this.revision;
+    }
+
     public void resetCart() {
         this.totalPrice = 0;
         this.cartProductList.clear();
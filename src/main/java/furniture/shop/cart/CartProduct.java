@@ -14,7 +14,9 @@ import org.hibernate.annotations.DynamicInsert;
 @DynamicInsert
 public class CartProduct {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_product_seq")
+    @SequenceGenerator(name = "cart_product_seq", sequenceName = "cart_product_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,44 @@
+package furniture.shop.cart;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import furniture.shop.cart.dto.CartProductDto;
+import furniture.shop.cart.dto.QCartProductDto;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static furniture.shop.cart.QCart.cart;
+import static furniture.shop.cart.QCartProduct.cartProduct;
+import static furniture.shop.product.QProduct.product;
+
+@Repository
+public class CartQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public CartQueryRepository(JPAQueryFactory jpaQueryFactory) {
+        this.jpaQueryFactory = jpaQueryFactory;
+    }
+
+    /**
+     * 회원의 장바구니 상품 조회 (상품과 join 해서 한 번의 쿼리로 현재 가격, 상태, 재고까지 조회)
+     */
+    public List<CartProductDto> getCartProducts(Long memberId) {
+        return jpaQueryFactory
+                .select(new QCartProductDto(
+                        product.id,
+                        product.productCode,
+                        product.productName,
+                        cartProduct.count,
+                        product.price,
+                        product.productStatus,
+                        product.stock
+                ))
+                .from(cartProduct)
+                .join(cartProduct.cart, cart)
+                .join(cartProduct.product, product)
+                .where(cart.member.id.eq(memberId))
+                .orderBy(cartProduct.id.asc())
+                .fetch();
+    }
+}
@@ -1,7 +1,16 @@
 package furniture.shop.cart;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Cart findByMemberId(Long memberId);
+
+    // Redis 장바구니 반영 중 주문/다른 반영과 겹치지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Cart c where c.member.id = :memberId")
+    Cart findForUpdateByMemberId(@Param("memberId") Long memberId);
 }
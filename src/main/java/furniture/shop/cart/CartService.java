@@ -11,12 +11,22 @@ import furniture.shop.member.Member;
 import furniture.shop.product.Product;
 import furniture.shop.product.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니는 Redis(CartStore)에 먼저 저장하고 주기적으로 DB 에 반영 (CartWriteBehindScheduling)
+ * Redis 장애 시에는 DB 장바구니를 직접 변경하고 revision 을 올려 이전 Redis 장바구니가 반영되지 않도록 함
+ * (이전 Redis 장바구니는 커밋 후 삭제하고, Redis 장애 중이면 복구 후 삭제하여 조회 시에도 사용하지 않음)
+ */
 @Service
 @RequiredArgsConstructor
 public class CartService {
@@ -25,6 +35,9 @@ public class CartService {
     private final CartProductRepository cartProductRepository;
     private final CartRepository cartRepository;
     private final MemberAuthorizationUtil memberAuthorizationUtil;
+    private final CartStore cartStore;
+    private final CartQueryRepository cartQueryRepository;
+    private final CartWriteBehind cartWriteBehind;
 
     @Transactional
     public void addCart(CartProductAddDto dto) {
@@ -33,6 +46,23 @@ public class CartService {
         Product product = productRepository.findById(dto.getProductId())
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_VALID_ERROR));
 
+        if (cartStore.isAvailable()) {
+            try {
+                if (cartStore.add(member.getId(), product.getId(), dto.getCount())) {
+                    return;
+                }
+
+                //Redis 에 장바구니가 없으면 DB 에서 불러온 후 다시 추가
+                loadCart(member.getId());
+
+                if (cartStore.add(member.getId(), product.getId(), dto.getCount())) {
+                    return;
+                }
+            } catch (DataAccessException e) {
+                cartStore.markUnavailable(e);
+            }
+        }
+
         Cart cart = cartRepository.findByMemberId(member.getId());
 
         //기존 장바구니가 없다면 장바구니 새로 만들기
@@ -50,46 +80,58 @@ public class CartService {
             CartProduct cartProduct = CartProduct.createCartProduct(cart, product, dto.getCount());
             cartProductRepository.save(cartProduct);
         }
+
+        cart.increaseRevision();
+        cartWriteBehind.evictAfterCommit(member.getId());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public CartDto getCart() {
         Member member = memberAuthorizationUtil.getMember();
 
-        CartDto cartDto = new CartDto();
-
-        Cart cart = cartRepository.findByMemberId(member.getId());
-
-        if (cart == null) {
-            cart = Cart.createCart(member);
-            cartRepository.save(cart);
-        } else {
-            List<CartProductDto> cartProductDtoList = new ArrayList<>();
-
-            List<CartProduct> cartProductList = cart.getCartProductList();
-
-            for (CartProduct cartProduct : cartProductList) {
-                CartProductDto cartProductDto = new CartProductDto();
+        if (cartStore.isAvailable()) {
+            try {
+                CartStore.CartSnapshot snapshot = cartStore.find(member.getId());
 
-                cartProductDto.setProductCode(cartProduct.getProduct().getProductCode());
-                cartProductDto.setProductName(cartProduct.getProduct().getProductName());
-                cartProductDto.setCount(cartProduct.getCount());
-                cartProductDto.setPrice(cartProduct.getCount() * cartProduct.getProduct().getPrice());
+                Map<Long, Integer> counts = snapshot == null ? loadCart(member.getId()) : snapshot.counts();
 
-                cartProductDtoList.add(cartProductDto);
+                return toCartDto(getCartProducts(counts));
+            } catch (DataAccessException e) {
+                cartStore.markUnavailable(e);
             }
-
-            cartDto.setCartProductDtoList(cartProductDtoList);
-            cartDto.setTotalPrice(cart.getTotalPrice());
         }
 
-        return cartDto;
+        return toCartDto(cartQueryRepository.getCartProducts(member.getId()));
     }
 
     @Transactional
     public void editCartProduct(CartProductEditDto editDto) {
         Member member = memberAuthorizationUtil.getMember();
 
+        if (cartStore.isAvailable()) {
+            try {
+                long result = cartStore.edit(member.getId(), editDto.getProductId(), editDto.getCount());
+
+                //Redis 에 장바구니가 없으면 DB 에서 불러온 후 다시 변경
+                if (result < 0) {
+                    loadCart(member.getId());
+
+                    result = cartStore.edit(member.getId(), editDto.getProductId(), editDto.getCount());
+                }
+
+                //장바구니에 없는 상품
+                if (result == 0) {
+                    throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+                }
+
+                if (result > 0) {
+                    return;
+                }
+            } catch (DataAccessException e) {
+                cartStore.markUnavailable(e);
+            }
+        }
+
         Cart cart = cartRepository.findByMemberId(member.getId());
 
         if (cart == null) {
@@ -110,6 +152,66 @@ public class CartService {
         } else {
             cartProduct.editCount(editDto.getCount());
         }
+
+        cart.increaseRevision();
+        cartWriteBehind.evictAfterCommit(member.getId());
+    }
+
+    // DB 장바구니를 Redis 로 불러옴 (DB 장바구니가 없으면 빈 장바구니)
+    private Map<Long, Integer> loadCart(Long memberId) {
+        Cart cart = cartRepository.findByMemberId(memberId);
+
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+
+        if (cart == null) {
+            cartStore.load(memberId, 0L, counts);
+
+            return counts;
+        }
+
+        for (CartProduct cartProduct : cart.getCartProductList()) {
+            counts.put(cartProduct.getProduct().getId(), cartProduct.getCount());
+        }
+
+        cartStore.load(memberId, cart.getRevision(), counts);
+
+        return counts;
+    }
+
+    // Redis 장바구니 상품 조회 (상품은 IN 쿼리 한 번으로 조회)
+    private List<CartProductDto> getCartProducts(Map<Long, Integer> counts) {
+        if (counts.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Product> productMap = productRepository.findAllById(counts.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<CartProductDto> cartProductDtoList = new ArrayList<>();
+
+        for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+            Product product = productMap.get(entry.getKey());
+
+            //삭제된 상품은 제외
+            if (product == null) {
+                continue;
+            }
+
+            cartProductDtoList.add(new CartProductDto(product.getId(), product.getProductCode(), product.getProductName(),
+                    entry.getValue(), product.getPrice(), product.getProductStatus(), product.getStock()));
+        }
+
+        return cartProductDtoList;
+    }
+
+    // 총 가격은 저장된 값이 아닌 상품의 현재 가격으로 계산
+    private CartDto toCartDto(List<CartProductDto> cartProductDtoList) {
+        CartDto cartDto = new CartDto();
+
+        cartDto.setCartProductDtoList(cartProductDtoList);
+        cartDto.setTotalPrice(cartProductDtoList.stream().mapToInt(CartProductDto::getPrice).sum());
+
+        return cartDto;
     }
 
 }
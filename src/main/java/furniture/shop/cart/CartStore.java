@@ -0,0 +1,264 @@
+package furniture.shop.cart;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 장바구니 (회원별 hash)
+ * rev : 불러오거나 DB 에 반영한 시점의 Cart.revision, p:{상품 ID} : 수량
+ * 변경은 Lua 스크립트 한 번으로 수정 + 반영 대기 목록(cart:dirty) 추가 + 유지 시간 연장을 함께 처리
+ * DB 반영은 CartWriteBehind 에서 주기적으로 처리, 반영 대기 목록에서 꺼낸 회원은 반영이 끝날 때까지 반영 중 목록(cart:dirty:processing)에 유지
+ * Redis 오류는 호출하는 쪽에서 DataAccessException 으로 받아 markUnavailable 후 DB 로 처리
+ * Redis 장애 중 DB 로 변경한 회원은 기록해 두고, Redis 를 다시 사용하기 전에 이전 Redis 장바구니를 삭제
+ */
+@Slf4j
+@Component
+public class CartStore {
+
+    private static final String KEY_PREFIX = "cart:";
+    private static final String DIRTY_KEY = "cart:dirty";
+    private static final String PROCESSING_KEY = "cart:dirty:processing";
+    private static final String REVISION_FIELD = "rev";
+    private static final String PRODUCT_FIELD_PREFIX = "p:";
+
+    // 마지막 사용 후 유지 시간 (DB 반영 주기보다 충분히 길게)
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private static final long REDIS_RETRY_MILLIS = 10000L;
+
+    // 반영 중 목록에 이 시간보다 오래 남은 회원은 반영 중 서버가 중단된 것으로 보고 다시 반영
+    private static final Duration PROCESSING_TIMEOUT = Duration.ofMinutes(1);
+
+    // 장바구니가 없으면 -1, 있으면 수량 증가 후 증가된 수량
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return -1 end " +
+                    "local count = redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('pexpire', KEYS[1], ARGV[3]) " +
+                    "redis.call('sadd', KEYS[2], ARGV[4]) " +
+                    "return count", Long.class);
+
+    // 장바구니가 없으면 -1, 상품이 없으면 0, 변경하면 1 (수량 0 이면 삭제)
+    private static final RedisScript<Long> EDIT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return -1 end " +
+                    "if redis.call('hexists', KEYS[1], ARGV[1]) == 0 then return 0 end " +
+                    "if tonumber(ARGV[2]) == 0 then redis.call('hdel', KEYS[1], ARGV[1]) " +
+                    "else redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) end " +
+                    "redis.call('pexpire', KEYS[1], ARGV[3]) " +
+                    "redis.call('sadd', KEYS[2], ARGV[4]) " +
+                    "return 1", Long.class);
+
+    // 다른 요청이 먼저 불러오지 않은 경우에만 저장 (ARGV : 유지 시간, 필드, 값, 필드, 값 ...)
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+                    "for i = 2, #ARGV, 2 do redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "redis.call('pexpire', KEYS[1], ARGV[1]) " +
+                    "return 1", Long.class);
+
+    // 반영 중 목록에서 시작 시각이 ARGV[3] 이하인 회원을 반영 대기 목록으로 되돌린 후
+    // 반영 대기 목록에서 최대 ARGV[1] 명을 꺼내 반영 중 목록(시작 시각 ARGV[2])으로 옮김
+    private static final RedisScript<List> POP_DIRTY_SCRIPT = new DefaultRedisScript<>(
+            "local stale = redis.call('zrangebyscore', KEYS[2], '-inf', ARGV[3]) " +
+                    "for i = 1, #stale do redis.call('sadd', KEYS[1], stale[i]) end " +
+                    "if #stale > 0 then redis.call('zremrangebyscore', KEYS[2], '-inf', ARGV[3]) end " +
+                    "local members = redis.call('spop', KEYS[1], ARGV[1]) " +
+                    "for i = 1, #members do redis.call('zadd', KEYS[2], ARGV[2], members[i]) end " +
+                    "return members", List.class);
+
+    // DB 반영 후 revision 변경 (그 사이 다시 불러온 장바구니는 변경하지 않음)
+    private static final RedisScript<Long> REVISION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hget', KEYS[1], 'rev') == ARGV[1] then redis.call('hset', KEYS[1], 'rev', ARGV[2]) return 1 end " +
+                    "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private volatile long redisRetryAt = 0L;
+
+    // Redis 장바구니를 삭제하지 못한 회원 (Redis 장애 중 DB 장바구니를 변경)
+    private final Set<Long> staleMembers = ConcurrentHashMap.newKeySet();
+
+    public CartStore(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public boolean isAvailable() {
+        if (System.currentTimeMillis() < redisRetryAt) {
+            return false;
+        }
+
+        return staleMembers.isEmpty() || evictStale();
+    }
+
+    // Redis 복구 후 삭제할 회원 기록
+    public synchronized void markStale(Long memberId) {
+        staleMembers.add(memberId);
+    }
+
+    // 이전 Redis 장바구니를 삭제한 후에 Redis 사용 (삭제 중에는 다른 요청도 대기)
+    private synchronized boolean evictStale() {
+        if (staleMembers.isEmpty()) {
+            return true;
+        }
+
+        // 대기 중 다른 요청에서 다시 오류가 난 경우
+        if (System.currentTimeMillis() < redisRetryAt) {
+            return false;
+        }
+
+        List<Long> memberIds = new ArrayList<>(staleMembers);
+        List<String> keys = new ArrayList<>(memberIds.size());
+
+        for (Long memberId : memberIds) {
+            keys.add(key(memberId));
+        }
+
+        try {
+            redisTemplate.delete(keys);
+        } catch (DataAccessException e) {
+            markUnavailable(e);
+
+            return false;
+        }
+
+        memberIds.forEach(staleMembers::remove);
+
+        return true;
+    }
+
+    // Redis 오류 후 잠시 DB 로만 처리
+    public void markUnavailable(Exception e) {
+        log.warn(">>> 장바구니 Redis 오류, DB 로 처리 : {} <<<", e.getMessage());
+
+        redisRetryAt = System.currentTimeMillis() + REDIS_RETRY_MILLIS;
+    }
+
+    /**
+     * @return 불러온 장바구니가 없으면 null
+     */
+    public CartSnapshot find(Long memberId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(memberId));
+
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        return toSnapshot(entries);
+    }
+
+    // DB 장바구니를 Redis 로 불러옴
+    public void load(Long memberId, long revision, Map<Long, Integer> counts) {
+        List<String> args = new ArrayList<>();
+
+        args.add(String.valueOf(TTL.toMillis()));
+        args.add(REVISION_FIELD);
+        args.add(String.valueOf(revision));
+
+        for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+            args.add(PRODUCT_FIELD_PREFIX + entry.getKey());
+            args.add(String.valueOf(entry.getValue()));
+        }
+
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key(memberId)), args.toArray());
+    }
+
+    /**
+     * @return 불러온 장바구니가 없으면 false
+     */
+    public boolean add(Long memberId, Long productId, int count) {
+        Long result = redisTemplate.execute(ADD_SCRIPT, List.of(key(memberId), DIRTY_KEY),
+                PRODUCT_FIELD_PREFIX + productId, String.valueOf(count), String.valueOf(TTL.toMillis()), String.valueOf(memberId));
+
+        return result != null && result >= 0;
+    }
+
+    /**
+     * @return 불러온 장바구니가 없으면 -1, 장바구니에 없는 상품이면 0, 변경하면 1
+     */
+    public long edit(Long memberId, Long productId, int count) {
+        Long result = redisTemplate.execute(EDIT_SCRIPT, List.of(key(memberId), DIRTY_KEY),
+                PRODUCT_FIELD_PREFIX + productId, String.valueOf(count), String.valueOf(TTL.toMillis()), String.valueOf(memberId));
+
+        return result == null ? -1L : result;
+    }
+
+    public void evict(Long memberId) {
+        redisTemplate.delete(key(memberId));
+    }
+
+    public void updateRevision(Long memberId, long expected, long revision) {
+        redisTemplate.execute(REVISION_SCRIPT, List.of(key(memberId)), String.valueOf(expected), String.valueOf(revision));
+    }
+
+    /**
+     * DB 반영 대기 중인 회원을 꺼냄 (여러 서버가 같은 회원을 중복으로 가져가지 않음)
+     * 꺼낸 회원은 completeDirty 전까지 반영 중 목록에 남아, 반영 전에 서버가 중단되어도 다시 반영됨
+     */
+    public List<Long> popDirty(int limit) {
+        long now = System.currentTimeMillis();
+
+        List<?> members = redisTemplate.execute(POP_DIRTY_SCRIPT, List.of(DIRTY_KEY, PROCESSING_KEY),
+                String.valueOf(limit), String.valueOf(now), String.valueOf(now - PROCESSING_TIMEOUT.toMillis()));
+
+        if (members == null) {
+            return List.of();
+        }
+
+        List<Long> memberIds = new ArrayList<>(members.size());
+
+        for (Object member : members) {
+            memberIds.add(Long.valueOf(String.valueOf(member)));
+        }
+
+        return memberIds;
+    }
+
+    // DB 반영을 마친 (또는 반영 대기 목록으로 되돌린) 회원을 반영 중 목록에서 삭제
+    public void completeDirty(List<Long> memberIds) {
+        Object[] members = new Object[memberIds.size()];
+
+        for (int i = 0; i < members.length; i++) {
+            members[i] = String.valueOf(memberIds.get(i));
+        }
+
+        redisTemplate.opsForZSet().remove(PROCESSING_KEY, members);
+    }
+
+    public void markDirty(Long memberId) {
+        redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(memberId));
+    }
+
+    private CartSnapshot toSnapshot(Map<Object, Object> entries) {
+        long revision = 0L;
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = String.valueOf(entry.getKey());
+
+            if (REVISION_FIELD.equals(field)) {
+                revision = Long.parseLong(String.valueOf(entry.getValue()));
+            } else if (field.startsWith(PRODUCT_FIELD_PREFIX)) {
+                counts.put(Long.valueOf(field.substring(PRODUCT_FIELD_PREFIX.length())), Integer.valueOf(String.valueOf(entry.getValue())));
+            }
+        }
+
+        return new CartSnapshot(revision, counts);
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    /**
+     * @param revision 불러오거나 마지막으로 DB 에 반영한 시점의 Cart.revision
+     * @param counts 상품 ID, 수량
+     */
+    public record CartSnapshot(long revision, Map<Long, Integer> counts) {
+    }
+}
@@ -0,0 +1,169 @@
+package furniture.shop.cart;
+
+import furniture.shop.member.MemberRepository;
+import furniture.shop.product.Product;
+import furniture.shop.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 장바구니를 DB 에 반영 (write-behind)
+ * Redis 장바구니의 revision 이 DB 와 같을 때만 반영하고, 다르면 DB 가 최신이므로 Redis 장바구니를 버림
+ * (Redis 장애 중 DB 로 처리한 변경, 주문으로 비운 장바구니를 덮어쓰지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartWriteBehind {
+
+    private final CartStore cartStore;
+    private final CartRepository cartRepository;
+    private final MemberRepository memberRepository;
+    private final ProductRepository productRepository;
+
+    /**
+     * 회원의 Redis 장바구니를 DB 에 반영
+     * 트랜잭션이 커밋되면 Redis 장바구니의 revision 을 변경
+     * @return Redis 오류로 Redis 장바구니를 읽지 못하면 false
+     */
+    @Transactional
+    public boolean flush(Long memberId) {
+        if (!cartStore.isAvailable()) {
+            return false;
+        }
+
+        CartStore.CartSnapshot snapshot;
+
+        try {
+            snapshot = cartStore.find(memberId);
+        } catch (DataAccessException e) {
+            cartStore.markUnavailable(e);
+
+            return false;
+        }
+
+        if (snapshot == null) {
+            return true;
+        }
+
+        Cart cart = cartRepository.findForUpdateByMemberId(memberId);
+
+        long revision = cart == null ? 0L : cart.getRevision();
+
+        // DB 가 최신이면 Redis 장바구니를 버리고 다음 조회 시 DB 에서 다시 불러옴
+        if (snapshot.revision() != revision) {
+            log.info(">>> 장바구니 revision 불일치, Redis 장바구니 삭제 : {} ({} / {}) <<<", memberId, snapshot.revision(), revision);
+
+            evict(memberId);
+
+            return true;
+        }
+
+        if (cart == null) {
+            cart = Cart.createCart(memberRepository.getReferenceById(memberId));
+            cartRepository.save(cart);
+        }
+
+        apply(cart, snapshot.counts());
+
+        long nextRevision = cart.increaseRevision();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    cartStore.updateRevision(memberId, revision, nextRevision);
+                } catch (DataAccessException e) {
+                    cartStore.markUnavailable(e);
+                }
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 Redis 장바구니 삭제 (DB 장바구니를 직접 변경한 경우)
+     * Redis 장애 중이면 Redis 복구 후 삭제
+     */
+    public void evictAfterCommit(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(memberId);
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(memberId);
+            }
+        });
+    }
+
+    // Redis 장바구니 수량을 DB 장바구니에 맞춤 (상품은 IN 쿼리 한 번으로 조회)
+    private void apply(Cart cart, Map<Long, Integer> counts) {
+        Set<Long> productIds = new HashSet<>(counts.keySet());
+
+        for (CartProduct cartProduct : cart.getCartProductList()) {
+            productIds.add(cartProduct.getProduct().getId());
+        }
+
+        Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        Iterator<CartProduct> iterator = cart.getCartProductList().iterator();
+        Set<Long> savedProductIds = new HashSet<>();
+
+        while (iterator.hasNext()) {
+            CartProduct cartProduct = iterator.next();
+            Long productId = cartProduct.getProduct().getId();
+            Integer count = counts.get(productId);
+
+            if (count == null || count <= 0) {
+                iterator.remove();
+
+                // 삭제했으므로 장바구니 총 가격 -
+                cart.minusTotalPrice(cartProduct.getCount() * cartProduct.getProduct().getPrice());
+            } else {
+                cartProduct.editCount(count);
+                savedProductIds.add(productId);
+            }
+        }
+
+        for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+            Product product = productMap.get(entry.getKey());
+
+            // 삭제된 상품은 반영하지 않음
+            if (product == null || entry.getValue() <= 0 || savedProductIds.contains(entry.getKey())) {
+                continue;
+            }
+
+            CartProduct.createCartProduct(cart, product, entry.getValue());
+        }
+    }
+
+    private void evict(Long memberId) {
+        if (!cartStore.isAvailable()) {
+            cartStore.markStale(memberId);
+
+            return;
+        }
+
+        try {
+            cartStore.evict(memberId);
+        } catch (DataAccessException e) {
+            cartStore.markUnavailable(e);
+            cartStore.markStale(memberId);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package furniture.shop.cart.dto;
 
+import com.querydsl.core.annotations.QueryProjection;
+import furniture.shop.product.constant.ProductStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +13,9 @@ import lombok.Setter;
 @Schema(description = "장바구니 상품 Response DTO")
 public class CartProductDto {
 
+    @Schema(description = "상품 식별번호")
+    private Long productId;
+
     @Schema(description = "상품 코드")
     private String productCode;
 
@@ -20,6 +25,28 @@ public class CartProductDto {
     @Schema(description = "개수")
     private int count;
 
+    @Schema(description = "상품 현재 가격")
+    private int unitPrice;
+
     @Schema(description = "가격")
     private int price;
+
+    @Schema(description = "상품 상태")
+    private ProductStatus productStatus;
+
+    @Schema(description = "재고 부족 여부")
+    private boolean soldOut;
+
+    // 가격은 상품의 현재 가격으로 계산
+    @QueryProjection
+    public CartProductDto(Long productId, String productCode, String productName, int count, int unitPrice, ProductStatus productStatus, int stock) {
+        this.productId = productId;
+        this.productCode = productCode;
+        this.productName = productName;
+        this.count = count;
+        this.unitPrice = unitPrice;
+        this.price = count * unitPrice;
+        this.productStatus = productStatus;
+        this.soldOut = stock < count;
+    }
 }
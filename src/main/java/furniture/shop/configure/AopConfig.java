@@ -1,25 +1,82 @@
 package furniture.shop.configure;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service, Controller 메서드 실행 시간 측정
+ * 모든 호출은 Micrometer 타이머(app.method)에 기록하고, 상세 로그는 DEBUG 에서 일부만 샘플링하여 남김
+ * 반환값 전체를 toString 하지 않고 타입만 기록
+ */
 @Aspect
 @Component
 @Slf4j
 public class AopConfig {
 
+    private static final String METRIC_NAME = "app.method";
+
+    private final MeterRegistry meterRegistry;
+    private final double logSampleRate;
+
+    // 메서드별 타이머 (호출마다 새로 만들지 않도록 캐시)
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public AopConfig(MeterRegistry meterRegistry,
+                     @Value("${app.trace.log-sample-rate:0.01}") double logSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.logSampleRate = logSampleRate;
+    }
+
     @Around("execution(* furniture.shop..*Service.*(..)) || execution(* furniture.shop..*Controller.*(..))")
     public Object generateLog(ProceedingJoinPoint joinPoint) throws Throwable {
-        log.info(">>> start : {} <<<", joinPoint.getSignature());
+        MethodTimers methodTimers = timers.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(), this::createTimers);
+
+        long start = System.nanoTime();
+        boolean success = false;
+        Object result = null;
 
-        Object result = joinPoint.proceed();
+        try {
+            result = joinPoint.proceed();
+            success = true;
 
-        log.info(">>> end : {}, return : {} <<<", joinPoint.getSignature(), result);
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
 
-        return result;
+            (success ? methodTimers.success() : methodTimers.error()).record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+                log.debug(">>> {} : {} ms, success : {}, return : {} <<<", joinPoint.getSignature(), elapsed / 1_000_000,
+                        success, result == null ? null : result.getClass().getSimpleName());
+            }
+        }
+    }
+
+    private MethodTimers createTimers(Method method) {
+        return new MethodTimers(createTimer(method, "success"), createTimer(method, "error"));
     }
 
+    private Timer createTimer(Method method, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record MethodTimers(Timer success, Timer error) {
+    }
 }
@@ -0,0 +1,25 @@
+package furniture.shop.configure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄 작업 스레드 풀
+ * 기본 스케줄러는 스레드 하나를 모든 작업이 함께 사용하므로, 느린 작업(웹훅 결제 확정의 아임포트 호출 등)이
+ * 매초 실행되는 작업(주문 만료, 장바구니 반영, outbox 발행 등)을 지연시키지 않도록 작업 수만큼 스레드 사용
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${app.scheduling.pool-size:12}") int poolSize) {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("scheduling-");
+
+        return taskScheduler;
+    }
+}
@@ -35,6 +35,7 @@ public class SpringSecurity {
     private final PrincipalDetailsService principalDetailsService;
     private final RedisTemplate<String, String> redisTemplate;
     private final CustomLogoutHandler logoutHandler;
+    private final TokenDenylist tokenDenylist;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -77,7 +78,8 @@ public class SpringSecurity {
                                         "/api-docs", "/api-docs/**", "/v3/api-docs/**", "/").permitAll()
                                 .requestMatchers("/join").permitAll()
                                 .requestMatchers("/actuator/prometheus").permitAll()
-                                .requestMatchers(HttpMethod.GET, "/product").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/credit/webhook").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/product", "/product/scroll").permitAll()
                                 .requestMatchers(HttpMethod.PATCH, "/product/{id}").hasRole("ADMIN")
                                 .requestMatchers(HttpMethod.POST, "/product").hasRole("ADMIN")
                                 .anyRequest().authenticated())
@@ -95,7 +97,7 @@ public class SpringSecurity {
                         logout.logoutUrl("/logout")
                                 .addLogoutHandler(logoutHandler)
                                 .logoutSuccessHandler(((request, response, authentication) -> SecurityContextHolder.clearContext())))
-                .addFilterBefore(new JwtFilter(redisTemplate, tokenProvider), CustomUsernameAuthenticationFilter.class)
+                .addFilterBefore(new JwtFilter(redisTemplate, tokenProvider, tokenDenylist), CustomUsernameAuthenticationFilter.class)
                 .addFilterAfter(customUsernameAuthenticationFilter(), LogoutFilter.class);
 
         return httpSecurity.build();
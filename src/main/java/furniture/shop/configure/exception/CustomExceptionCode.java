@@ -18,6 +18,8 @@ public enum CustomExceptionCode {
     FAIL_PAYMENT(HttpStatus.BAD_REQUEST, "결제가 실패했습니다."),
     NOT_VALID_PAYMENT(HttpStatus.BAD_REQUEST, "잘못된 결제 요청입니다."),
     DELETE_FAIL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "삭제 실패 오류입니다."),
+    PAYMENT_IN_PROGRESS(HttpStatus.CONFLICT, "결제가 처리 중입니다."),
+    EXPIRED_ORDER(HttpStatus.BAD_REQUEST, "결제 기한이 지나 취소된 주문입니다. 결제 금액은 환불됩니다."),
     ;
 
     private final HttpStatus httpStatus;
@@ -9,8 +9,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.TimeUnit;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -18,23 +16,30 @@ public class CustomLogoutHandler implements LogoutHandler {
 
     private final TokenProvider tokenProvider;
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenDenylist tokenDenylist;
 
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
         String accessToken = tokenProvider.resolveToken(request);
 
-        Authentication auth = tokenProvider.getAuthentication(accessToken);
+        if (accessToken == null) {
+            throw new RuntimeException("access token not valid error");
+        }
 
-        if (accessToken == null || !tokenProvider.validateToken(accessToken)) {
+        JwtParseResult result = tokenProvider.parse(accessToken);
+
+        if (!result.isValid()) {
             throw new RuntimeException("access token not valid error");
         }
 
+        Authentication auth = tokenProvider.getAuthentication(result.getClaims());
+
         if (redisTemplate.opsForValue().get(auth.getName()) != null) {
             redisTemplate.delete(auth.getName());
         }
 
-        Long expiration = tokenProvider.getExpiration(accessToken);
+        Long expiration = tokenProvider.getExpiration(result.getClaims());
 
-        redisTemplate.opsForValue().set(accessToken, "logout", expiration, TimeUnit.MILLISECONDS);
+        tokenDenylist.revoke(accessToken, expiration);
     }
 }
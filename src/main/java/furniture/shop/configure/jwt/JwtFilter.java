@@ -1,10 +1,6 @@
 package furniture.shop.configure.jwt;
 
 import furniture.shop.configure.exception.CustomJWTExceptionCode;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.SecurityException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -30,6 +26,7 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final TokenProvider tokenProvider;
+    private final TokenDenylist tokenDenylist;
 
     //토큰의 인증정보를 SecurityContext에 저장하는 역할 수행
     @Override
@@ -38,48 +35,61 @@ public class JwtFilter extends OncePerRequestFilter {
         String accessToken = tokenProvider.resolveToken(request);
 
         try {
-            if (StringUtils.hasText(accessToken) && tokenProvider.validateToken(accessToken)) {
-                String isLogout = redisTemplate.opsForValue().get(accessToken);
+            if (StringUtils.hasText(accessToken)) {
+                //토큰은 요청당 한 번만 파싱
+                JwtParseResult result = tokenProvider.parse(accessToken);
+
+                if (result.isValid()) {
+                    // 로그아웃 하지 않은 경우
+                    if (!tokenDenylist.isRevoked(accessToken)) {
+                        Authentication authentication = tokenProvider.getAuthentication(result.getClaims());
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                // 로그아웃 하지 않은 경우
-                if (!StringUtils.hasText(isLogout)) {
-                    Authentication authentication = tokenProvider.getAuthentication(accessToken);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                        log.debug("Security Context에 '{}' 인증 정보를 저장했습니다, URI : {}", authentication.getName(), requestURI);
+                    }
+                } else if (result.isExpired()) {
+                    log.info("AccessToken 만료되어 있는 경우 accessToken 재발급");
 
-                    log.info("Security Context에 '{}' 인증 정보를 저장했습니다, URI : {}", authentication.getName(), requestURI);
+                    request.setAttribute("exception", result.getErrorCode().getCode());
+                    reissueAccessToken(request, response);
+                } else {
+                    request.setAttribute("exception", result.getErrorCode().getCode());
                 }
-            } else if (StringUtils.hasText(accessToken) && tokenProvider.isExpiredAccessToken(accessToken)) {
-                log.info("AccessToken 만료되어 있는 경우 accessToken 재발급");
+            }
+        } catch (Exception e) {
+            // 토큰 오류는 parse 에서 결과로 변환되므로 인증 정보 생성, 재발급 중 오류만 처리
+            request.setAttribute("exception", CustomJWTExceptionCode.JWT_UNKNOWN_ERROR.getCode());
+        }
 
-                String refreshToken = getRefreshToken(request);
+        filterChain.doFilter(request, response);
+    }
 
-                if (StringUtils.hasText(refreshToken) && tokenProvider.validateToken(refreshToken)) {
-                    // refreshToken 유효하면 accessToken 재발급
-                    Authentication authentication = tokenProvider.getAuthentication(refreshToken);
+    private void reissueAccessToken(HttpServletRequest request, HttpServletResponse response) {
+        String refreshToken = getRefreshToken(request);
 
-                    if (refreshToken.equals(redisTemplate.opsForValue().get(authentication.getName()))) {
-                        log.info("AccessToken 재발급");
+        if (!StringUtils.hasText(refreshToken)) {
+            return;
+        }
 
-                        String newAccessToken = tokenProvider.createToken(authentication);
-                        tokenProvider.sendAccessToken(response, newAccessToken);
+        JwtParseResult refreshResult = tokenProvider.parse(refreshToken);
 
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                    }
-                }
-            }
-        } catch (SecurityException | MalformedJwtException e) {
-            request.setAttribute("exception", CustomJWTExceptionCode.JWT_SIGN_ERROR.getCode());
-        } catch (ExpiredJwtException e) {
-            request.setAttribute("exception", CustomJWTExceptionCode.JWT_EXPIRED_ERROR.getCode());
-        } catch (UnsupportedJwtException e) {
-            request.setAttribute("exception", CustomJWTExceptionCode.JWT_UNSUPPORTED_ERROR.getCode());
-        } catch (IllegalArgumentException e) {
-            request.setAttribute("exception", CustomJWTExceptionCode.JWT_INVALID_ERROR.getCode());
-        } catch (Exception e) {
-            request.setAttribute("exception", CustomJWTExceptionCode.JWT_UNKNOWN_ERROR.getCode());
+        if (!refreshResult.isValid()) {
+            return;
         }
 
-        filterChain.doFilter(request, response);
+        String email = tokenProvider.getEmail(refreshResult.getClaims());
+
+        // refreshToken 유효하면 현재 회원 정보로 accessToken 재발급 (권한 변경 반영)
+        if (StringUtils.hasText(email) && refreshToken.equals(redisTemplate.opsForValue().get(email))) {
+            log.info("AccessToken 재발급");
+
+            Authentication authentication = tokenProvider.getReissueAuthentication(refreshResult.getClaims());
+
+            String newAccessToken = tokenProvider.createToken(authentication);
+            tokenProvider.sendAccessToken(response, newAccessToken);
+
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
     }
 
     private String getRefreshToken(HttpServletRequest request) {
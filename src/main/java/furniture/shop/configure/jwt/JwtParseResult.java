@@ -0,0 +1,44 @@
+package furniture.shop.configure.jwt;
+
+import furniture.shop.configure.exception.CustomJWTExceptionCode;
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 한 번 파싱한 결과
+ * 유효하거나 만료된 경우 claims 를, 그 외에는 오류 코드를 가짐
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtParseResult {
+
+    public enum Status {
+        VALID, EXPIRED, INVALID
+    }
+
+    private final Status status;
+    private final Claims claims;
+    private final CustomJWTExceptionCode errorCode;
+
+    public static JwtParseResult valid(Claims claims) {
+        return new JwtParseResult(Status.VALID, claims, null);
+    }
+
+    public static JwtParseResult expired(Claims claims) {
+        return new JwtParseResult(Status.EXPIRED, claims, CustomJWTExceptionCode.JWT_EXPIRED_ERROR);
+    }
+
+    public static JwtParseResult invalid(CustomJWTExceptionCode errorCode) {
+        return new JwtParseResult(Status.INVALID, null, errorCode);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public boolean isExpired() {
+        return status == Status.EXPIRED;
+    }
+}
@@ -0,0 +1,26 @@
+package furniture.shop.configure.jwt;
+
+import furniture.shop.member.constant.MemberRole;
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+
+/**
+ * 회원 id 와 권한을 함께 가지는 인증 정보
+ * 토큰 claim 만으로 생성할 수 있어 요청마다 회원을 조회하지 않아도 됨
+ */
+@Getter
+public class MemberPrincipal extends User {
+
+    private final Long memberId;
+    private final MemberRole role;
+
+    public MemberPrincipal(Long memberId, String email, String password, MemberRole role) {
+        super(email, password, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+
+        this.memberId = memberId;
+        this.role = role;
+    }
+}
@@ -5,7 +5,6 @@ import furniture.shop.configure.exception.CustomExceptionCode;
 import furniture.shop.member.Member;
 import furniture.shop.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -25,10 +24,6 @@ public class PrincipalDetailsService implements UserDetailsService {
             throw new CustomException(CustomExceptionCode.NOT_VALID_LOGIN_ERROR);
         }
 
-        return User.builder()
-                .username(member.getEmail())
-                .password(member.getPassword())
-                .roles(member.getRole().name())
-                .build();
+        return new MemberPrincipal(member.getId(), member.getEmail(), member.getPassword(), member.getRole());
     }
 }
@@ -0,0 +1,140 @@
+package furniture.shop.configure.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃된 access token 목록
+ * Redis sorted set (만료 시각 score) 을 주기적으로 동기화하고 pub/sub 으로 즉시 반영하여 로컬에서 확인
+ * 구독 중이고 최근 동기화에 성공한 경우에만 로컬 결과를 믿고, 그 외에는 기존처럼 Redis 에서 확인
+ */
+@Slf4j
+@Component
+public class TokenDenylist implements MessageListener {
+
+    private static final String DENYLIST_KEY = "jwt:denylist";
+    private static final ChannelTopic LOGOUT_TOPIC = new ChannelTopic("jwt:logout");
+    private static final String LOGOUT_VALUE = "logout";
+
+    // 마지막 동기화 후 이 시간이 지나면 로컬 목록을 믿지 않음
+    private static final long SYNC_VALID_MILLIS = 30000L;
+
+    // 토큰 -> 만료 시각
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile boolean subscribed = false;
+    private volatile long lastSyncedAt = 0L;
+
+    public TokenDenylist(RedisTemplate<String, String> redisTemplate,
+                         RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    // 로그아웃 처리 (만료까지 남은 시간 동안 사용 불가)
+    public void revoke(String token, long expirationMillis) {
+        long expiresAt = System.currentTimeMillis() + expirationMillis;
+
+        redisTemplate.opsForValue().set(token, LOGOUT_VALUE, expirationMillis, TimeUnit.MILLISECONDS);
+        redisTemplate.opsForZSet().add(DENYLIST_KEY, token, expiresAt);
+        redisTemplate.convertAndSend(LOGOUT_TOPIC.getTopic(), expiresAt + ":" + token);
+
+        revokedTokens.put(token, expiresAt);
+    }
+
+    public boolean isRevoked(String token) {
+        Long expiresAt = revokedTokens.get(token);
+
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            return true;
+        }
+
+        if (isSynced()) {
+            return false;
+        }
+
+        return StringUtils.hasText(redisTemplate.opsForValue().get(token));
+    }
+
+    /**
+     * Redis 의 로그아웃 목록을 로컬로 가져옴
+     * 로컬에 이미 있는 토큰은 지우지 않고 만료된 토큰만 정리 (동기화 중 받은 메시지가 사라지지 않도록)
+     */
+    public void sync() {
+        subscribe();
+
+        long now = System.currentTimeMillis();
+
+        try {
+            ZSetOperations<String, String> zSetOperations = redisTemplate.opsForZSet();
+
+            zSetOperations.removeRangeByScore(DENYLIST_KEY, 0, now);
+            Set<ZSetOperations.TypedTuple<String>> tokens = zSetOperations.rangeByScoreWithScores(DENYLIST_KEY, now, Double.MAX_VALUE);
+
+            if (tokens != null) {
+                for (ZSetOperations.TypedTuple<String> token : tokens) {
+                    if (token.getValue() != null && token.getScore() != null) {
+                        revokedTokens.put(token.getValue(), token.getScore().longValue());
+                    }
+                }
+            }
+
+            revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+
+            if (subscribed) {
+                lastSyncedAt = now;
+            }
+        } catch (RuntimeException e) {
+            log.warn("로그아웃 토큰 목록 동기화 실패 : {}", e.getMessage());
+        }
+    }
+
+    // 다른 서버에서 발행한 로그아웃 메시지 ("만료시각:토큰")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(':');
+
+        try {
+            revokedTokens.put(body.substring(index + 1), Long.valueOf(body.substring(0, index)));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 로그아웃 메시지 : {}", body);
+        }
+    }
+
+    private boolean isSynced() {
+        return subscribed
+                && redisMessageListenerContainer.isListening()
+                && System.currentTimeMillis() - lastSyncedAt < SYNC_VALID_MILLIS;
+    }
+
+    // Redis 없이도 기동되도록 첫 동기화 시 구독
+    private void subscribe() {
+        if (subscribed || !redisMessageListenerContainer.isRunning()) {
+            return;
+        }
+
+        try {
+            redisMessageListenerContainer.addMessageListener(this, LOGOUT_TOPIC);
+            subscribed = true;
+        } catch (RuntimeException e) {
+            log.warn("로그아웃 메시지 구독 실패 : {}", e.getMessage());
+        }
+    }
+}
@@ -2,12 +2,15 @@ package furniture.shop.configure.jwt;
 
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.configure.exception.CustomJWTExceptionCode;
 import furniture.shop.member.Member;
 import furniture.shop.member.MemberRepository;
+import furniture.shop.member.constant.MemberRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -17,7 +20,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
@@ -36,6 +38,8 @@ public class TokenProvider {
     private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
     private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
     private static final String EMAIL_CLAIM = "email";
+    private static final String MEMBER_ID_CLAIM = "id";
+    private static final String ROLE_CLAIM = "role";
     private static final String TOKEN_PREFIX = "Bearer ";
 
     @Value("${jwt.secretKey}")
@@ -50,10 +54,37 @@ public class TokenProvider {
     @Value("${jwt.access.header}")
     private String accessHeader;
 
+    // 서명 키와 파서는 thread-safe 하므로 시작 시 한 번만 생성
+    private SecretKey signKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signKey)
+                .build();
+    }
+
     private SecretKey getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+        return signKey;
+    }
 
-        return Keys.hmacShaKeyFor(keyBytes);
+    //토큰을 한 번만 파싱하여 검증된 claims 혹은 만료/오류 결과를 반환
+    public JwtParseResult parse(String token) {
+        try {
+            return JwtParseResult.valid(jwtParser.parseClaimsJws(token).getBody());
+        } catch (ExpiredJwtException e) {
+            return JwtParseResult.expired(e.getClaims());
+        } catch (SecurityException | MalformedJwtException e) {
+            return JwtParseResult.invalid(CustomJWTExceptionCode.JWT_SIGN_ERROR);
+        } catch (UnsupportedJwtException e) {
+            return JwtParseResult.invalid(CustomJWTExceptionCode.JWT_UNSUPPORTED_ERROR);
+        } catch (IllegalArgumentException e) {
+            return JwtParseResult.invalid(CustomJWTExceptionCode.JWT_INVALID_ERROR);
+        } catch (JwtException e) {
+            return JwtParseResult.invalid(CustomJWTExceptionCode.JWT_UNKNOWN_ERROR);
+        }
     }
 
     //Authentication 객체의 권한정보를 이용해서 토큰을 생성
@@ -62,6 +93,7 @@ public class TokenProvider {
 
         Claims claims = Jwts.claims().setSubject(ACCESS_TOKEN_SUBJECT);
         claims.put(EMAIL_CLAIM, authentication.getName());
+        putMemberClaims(claims, authentication);
 
         Date now = new Date();
         Date expirationDate = new Date(now.getTime() + accessTokenExpiration);
@@ -79,6 +111,7 @@ public class TokenProvider {
 
         Claims claims = Jwts.claims().setSubject(REFRESH_TOKEN_SUBJECT);
         claims.put(EMAIL_CLAIM, authentication.getName());
+        putMemberClaims(claims, authentication);
 
         Date now = new Date();
         Date expirationDate = new Date(now.getTime() + refreshTokenExpiration);
@@ -112,108 +145,95 @@ public class TokenProvider {
         response.addCookie(cookie);
     }
 
-    //Token에 담겨있는 정보를 이용해 Authentication 객체를 리턴하는 메서드
-    public Authentication getAuthentication(String token) {
-        log.info("인증 Authentication 가져오기");
-
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    //이미 검증된 claims 로 Authentication 객체를 생성
+    public Authentication getAuthentication(Claims claims) {
+        log.debug("인증 Authentication 가져오기");
 
         String email = (String) claims.get(EMAIL_CLAIM);
 
-        Member member = memberRepository.findByEmail(email);
+        UserDetails userDetails = getPrincipalFromClaims(claims, email);
 
-        if (member == null) {
-            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
-        }
+        // 회원 정보 claim 이 없는 이전 토큰만 DB 에서 조회
+        if (userDetails == null) {
+            Member member = memberRepository.findByEmail(email);
 
-        UserDetails userDetails = User.builder()
-                .username(member.getEmail())
-                .password(member.getPassword())
-                .roles(member.getRole().name())
-                .build();
+            if (member == null) {
+                throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+            }
+
+            userDetails = new MemberPrincipal(member.getId(), member.getEmail(), "", member.getRole());
+        }
 
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 
-    public String resolveToken(HttpServletRequest request) {
-        log.info("헤더에서 토큰 가져오기");
+    public String getEmail(Claims claims) {
+        return (String) claims.get(EMAIL_CLAIM);
+    }
 
-        String accessToken = request.getHeader(accessHeader);
+    /**
+     * accessToken 재발급용 인증 정보
+     * refreshToken 의 claim 은 refreshToken 유효 기간 동안 바뀌지 않으므로 재발급 시에는 DB 의 현재 회원 정보로 생성
+     */
+    public Authentication getReissueAuthentication(Claims claims) {
+        String email = (String) claims.get(EMAIL_CLAIM);
+        Number memberId = claims.get(MEMBER_ID_CLAIM, Number.class);
 
-        if (accessToken != null && accessToken.startsWith(TOKEN_PREFIX)) {
-            return accessToken.substring(7);
+        Member member = memberId == null
+                ? memberRepository.findByEmail(email)
+                : memberRepository.findById(memberId.longValue()).orElse(null);
+
+        if (member == null || !member.getEmail().equals(email)) {
+            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
         }
 
-        return null;
+        UserDetails userDetails = new MemberPrincipal(member.getId(), member.getEmail(), "", member.getRole());
+
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 
-    public void sendAccessToken(HttpServletResponse response, String accessToken) {
-        response.setStatus(HttpServletResponse.SC_OK); //200 성공
-        response.addHeader(accessHeader, TOKEN_PREFIX + accessToken); //ex) AccessToken : BEARER fdjiaopjfdipoas
+    //로그인 시 생성된 인증 정보이면 회원 id, 권한을 토큰에 담음
+    private void putMemberClaims(Claims claims, Authentication authentication) {
+        if (authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            claims.put(MEMBER_ID_CLAIM, principal.getMemberId());
+            claims.put(ROLE_CLAIM, principal.getRole().name());
+        }
     }
 
-    //Token Valid
-    public boolean validateToken(String token) {
-        log.info("유효한 토큰인지 check");
+    private MemberPrincipal getPrincipalFromClaims(Claims claims, String email) {
+        Number memberId = claims.get(MEMBER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
 
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSignKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+        if (memberId == null || role == null) {
+            return null;
+        }
 
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.info("잘못된 JWT 서명입니다.");
-        } catch (ExpiredJwtException e) {
-            log.info("만료된 JWT 토큰입니다.");
-        } catch (UnsupportedJwtException e) {
-            log.info("지원되지 않는 JWT 토큰입니다.");
+        try {
+            return new MemberPrincipal(memberId.longValue(), email, "", MemberRole.valueOf(role));
         } catch (IllegalArgumentException e) {
-            log.info("JWT 토큰이 잘못되었습니다.");
+            return null;
         }
-
-        return false;
     }
 
-    public boolean isExpiredAccessToken(String token) {
-        log.info("만료된 토큰인지 체크");
-
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSignKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+    public String resolveToken(HttpServletRequest request) {
+        log.debug("헤더에서 토큰 가져오기");
 
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.info("잘못된 JWT 서명입니다.");
-        } catch (ExpiredJwtException e) {
-            log.info("만료된 JWT 토큰입니다.");
+        String accessToken = request.getHeader(accessHeader);
 
-            return true;
-        } catch (UnsupportedJwtException e) {
-            log.info("지원되지 않는 JWT 토큰입니다.");
-        } catch (IllegalArgumentException e) {
-            log.info("JWT 토큰이 잘못되었습니다.");
+        if (accessToken != null && accessToken.startsWith(TOKEN_PREFIX)) {
+            return accessToken.substring(7);
         }
 
-        return false;
+        return null;
+    }
+
+    public void sendAccessToken(HttpServletResponse response, String accessToken) {
+        response.setStatus(HttpServletResponse.SC_OK); //200 성공
+        response.addHeader(accessHeader, TOKEN_PREFIX + accessToken); //ex) AccessToken : BEARER fdjiaopjfdipoas
     }
 
-    public Long getExpiration(String accessToken) {
-        Date expiration = Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
-                .parseClaimsJws(accessToken)
-                .getBody()
-                .getExpiration();
+    public Long getExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
 
         Long now = new Date().getTime();
 
@@ -0,0 +1,26 @@
+package furniture.shop.configure.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Schema(description = "커서 기반 목록 Response")
+public class CursorResponse<T> {
+
+    @Schema(description = "목록")
+    private final List<T> content;
+
+    @Schema(description = "다음 목록 조회용 커서 (마지막이면 null)")
+    private final String nextCursor;
+
+    @Schema(description = "다음 목록 존재 여부")
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
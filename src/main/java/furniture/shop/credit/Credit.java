@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class Credit {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_seq")
+    @SequenceGenerator(name = "credit_seq", sequenceName = "credit_seq", allocationSize = 50)
     private Long id;
 
     @JoinColumn(name = "orders_id")
@@ -3,6 +3,7 @@ package furniture.shop.credit;
 import furniture.shop.configure.response.ApiResponse;
 import furniture.shop.credit.dto.CreditRefundRequestDto;
 import furniture.shop.credit.dto.CreditRequestDto;
+import furniture.shop.credit.dto.PaymentWebhookRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class CreditController {
 
     private final CreditService creditService;
+    private final PaymentWebhookService paymentWebhookService;
 
     @PostMapping("/credit/{id}/complete")
     @Operation(summary = "결제 검증", description = "결제 검증 API")
@@ -52,4 +54,15 @@ public class CreditController {
         return ResponseEntity.ok(ApiResponse.res(HttpStatus.OK, "환불이 완료되었습니다."));
     }
 
+    @PostMapping("/credit/webhook")
+    @Operation(summary = "아임포트 웹훅", description = "결제 상태 변경 알림 수신 API, 결제 확정은 대기열에서 비동기로 처리")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "웹훅을 수신하였습니다.", content = @Content(mediaType = "application/json")),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 입력입니다.", content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<ApiResponse<?>> receiveWebhook(@RequestBody PaymentWebhookRequestDto dto) {
+        paymentWebhookService.enqueue(dto.getImpUID(), dto.getMerchantUID(), dto.getStatus());
+
+        return ResponseEntity.ok(ApiResponse.res(HttpStatus.OK, "웹훅을 수신하였습니다."));
+    }
 }
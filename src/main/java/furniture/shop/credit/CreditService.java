@@ -1,9 +1,6 @@
 package furniture.shop.credit;
 
-import com.siot.IamportRestClient.IamportClient;
-import com.siot.IamportRestClient.exception.IamportResponseException;
 import com.siot.IamportRestClient.request.CancelData;
-import com.siot.IamportRestClient.response.IamportResponse;
 import com.siot.IamportRestClient.response.Payment;
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
@@ -11,103 +8,316 @@ import furniture.shop.credit.dto.CreditRefundRequestDto;
 import furniture.shop.credit.dto.CreditRequestDto;
 import furniture.shop.credit.dto.PaymentInfoDto;
 import furniture.shop.global.MemberAuthorizationUtil;
+import furniture.shop.global.ShopMetrics;
 import furniture.shop.member.Member;
 import furniture.shop.order.Orders;
-import furniture.shop.order.OrdersProduct;
 import furniture.shop.order.OrdersRepository;
 import furniture.shop.order.contsant.OrdersStatus;
-import furniture.shop.product.Product;
+import furniture.shop.outbox.OutboxPublisher;
+import furniture.shop.outbox.event.OrderCancelled;
+import furniture.shop.outbox.event.PaymentCompleted;
+import furniture.shop.outbox.event.PaymentRefundRequired;
+import furniture.shop.product.ProductSellCountService;
+import furniture.shop.product.ProductStockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
-import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CreditService {
 
+    // 아임포트 결제 취소 상태
+    private static final String CANCELLED_STATUS = "cancelled";
+
+    // 취소된 주문의 결제 환불 사유
+    private static final String EXPIRED_REFUND_REASON = "결제 기한 만료로 취소된 주문";
+
     private final MemberAuthorizationUtil memberAuthorizationUtil;
     private final OrdersRepository ordersRepository;
-    private final IamportClient iamportClient;
+    private final IamportGateway iamportGateway;
     private final CreditRepository creditRepository;
+    private final ProductStockService productStockService;
+    private final ProductSellCountService productSellCountService;
+    private final ShopMetrics shopMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentIdempotency paymentIdempotency;
+    private final OutboxPublisher outboxPublisher;
 
     /**
      * 결제 검증
      * Credit entity 생성 및 저장
-     * 상품 재고--, 판매량++
+     * 상품 판매량++ (재고는 주문 시 차감)
      * 회원 마일리지++
      * 주문 상태 변경
+     * 아임포트 호출 동안 DB 커넥션을 잡고 있지 않도록 주문 확인 -> 아임포트 결제 조회 -> 결제 반영 을 나누어 처리
      * @param creditRequestDto 결제금액, 결제 고유번호, 결제 번호, 결제방법
      */
-    @Transactional
     public void createAndVerifyPayment(CreditRequestDto creditRequestDto) {
+        confirmPayment("verify", creditRequestDto, true);
+    }
+
+    /**
+     * 아임포트 웹훅 결제 확정
+     * 사용자 요청이 아니므로 주문자 확인 없이 아임포트 결제 정보(가맹점 주문 번호의 주문 ID, 결제 금액 등)를 기준으로 결제 반영
+     * 결제 완료가 아닌 알림(가상계좌 발급, 결제 실패 등)은 처리하지 않음
+     * @param impUID 결제 고유번호
+     */
+    public void confirmWebhookPayment(String impUID) {
+        Payment payment;
+
+        try {
+            payment = iamportGateway.getPayment(impUID);
+        } catch (IamportNotFoundException e) {
+            // 아임포트에 없는 결제는 재시도하지 않음
+            log.info(">>> 웹훅 결제 정보 없음 : {} <<<", impUID);
+
+            throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+        } catch (IamportGatewayException e) {
+            log.info(">>> 웹훅 결제 조회 중 오류 : {} <<<", e.getMessage());
+
+            throw new CustomException(CustomExceptionCode.FAIL_PAYMENT);
+        }
+
+        if (payment == null || !"paid".equals(payment.getStatus())) {
+            return;
+        }
+
+        Long orderId = MerchantUID.parseOrderId(payment.getMerchantUid());
+
+        if (orderId == null) {
+            log.info(">>> 주문을 찾을 수 없는 가맹점 주문 번호 : {} <<<", payment.getMerchantUid());
+
+            throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+        }
+
+        CreditRequestDto creditRequestDto = new CreditRequestDto();
+
+        creditRequestDto.setOrderId(orderId);
+        creditRequestDto.setImpUID(impUID);
+        creditRequestDto.setMerchantUID(payment.getMerchantUid());
+        creditRequestDto.setAmount(payment.getAmount() == null ? 0 : payment.getAmount().intValue());
+        creditRequestDto.setPayMethod(payment.getPayMethod());
+
+        // 결제 조회 결과는 잠시 캐시되므로 아래 검증에서 아임포트를 다시 호출하지 않음
+        confirmPayment("webhook", creditRequestDto, false);
+    }
+
+    // 결제 완료 요청, 웹훅이 같은 로직으로 결제 반영 (checkMember : 현재 사용자가 주문자인지 확인)
+    private void confirmPayment(String operation, CreditRequestDto creditRequestDto, boolean checkMember) {
+        long start = System.nanoTime();
+        boolean success = false;
+
+        String impUID = creditRequestDto.getImpUID();
         Long orderId = creditRequestDto.getOrderId();
 
+        // 같은 결제의 재시도 요청이면 다시 처리하지 않고 성공 응답
+        PaymentIdempotency.Result idempotency = paymentIdempotency.acquire(impUID, orderId);
+
+        try {
+            if (idempotency == PaymentIdempotency.Result.COMPLETED) {
+                // 완료 기록은 결제 기준이므로 주문자 확인 후 성공 응답
+                if (checkMember) {
+                    transactionTemplate.execute(status -> checkOrderMember(orderId));
+                }
+
+                success = true;
+                return;
+            }
+
+            // Redis 에 기록이 없어도 이미 같은 결제로 완료된 주문이면 성공 응답
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> checkPaymentOrder(orderId, impUID, checkMember)))) {
+                success = true;
+                return;
+            }
+
+            // 결제 고유번호 ImpUID를 이용하여 결제 검증
+            Payment payment;
+
+            try {
+                payment = iamportGateway.getPayment(impUID);
+            } catch (IamportGatewayException e) {
+                log.info(">>> 결제 검증 중 오류 : {} <<<", e.getMessage());
+
+                throw new CustomException(CustomExceptionCode.FAIL_PAYMENT);
+            }
+
+            // 결제 성공 여부 체크
+            if (payment == null || !"paid".equals(payment.getStatus())) {
+                log.info(">>> 결제 실패 <<<");
+
+                throw new CustomException(CustomExceptionCode.FAIL_PAYMENT);
+            }
+
+            try {
+                transactionTemplate.execute(status -> completePayment(creditRequestDto, payment));
+            } catch (CustomException e) {
+                // 결제 검증 중 결제 기한이 지나 주문이 취소된 경우 결제만 남지 않도록 환불
+                if (e.getCode() == CustomExceptionCode.EXPIRED_ORDER) {
+                    refundExpiredPayment(orderId, impUID, payment);
+                }
+
+                throw e;
+            }
+
+            success = true;
+        } finally {
+            if (idempotency == PaymentIdempotency.Result.ACQUIRED) {
+                if (success) {
+                    paymentIdempotency.complete(impUID, orderId);
+                } else {
+                    paymentIdempotency.release(impUID);
+                }
+            }
+
+            shopMetrics.recordPayment(operation, success, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 결제 전 주문 확인
+     * @return 같은 결제로 이미 완료된 주문이면 true
+     */
+    private Boolean checkPaymentOrder(Long orderId, String impUID, boolean checkMember) {
         // 주문 정보 가져오기, 없다면 throw
         Orders orders = ordersRepository.findById(orderId)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_VALID_ERROR));
 
+        if (checkMember) {
+            checkMember(orders);
+        }
+
+        // 주문 준비가 아니면 결제할 수 없음 (취소된 주문은 결제되었으면 환불하도록 결제 확인까지 진행)
+        if (orders.getOrdersStatus() != OrdersStatus.READY && orders.getOrdersStatus() != OrdersStatus.CANCEL) {
+            Credit credit = orders.getOrdersStatus() == OrdersStatus.FINISH ? creditRepository.findByOrdersId(orderId) : null;
+
+            if (credit != null && impUID != null && impUID.equals(credit.getImpUID())) {
+                return true;
+            }
+
+            log.info(">>> 결제 준비 상태가 아닌 경우 <<<");
+
+            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+        }
+
+        return false;
+    }
+
+    private Orders checkOrderMember(Long orderId) {
+        Orders orders = ordersRepository.findById(orderId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_VALID_ERROR));
+
+        checkMember(orders);
+
+        return orders;
+    }
+
+    private void checkMember(Orders orders) {
         Member member = memberAuthorizationUtil.getMember();
 
         // 현재 사용자와 주문자가 다른 경우
-        if (orders.getMember().getId() != member.getId()) {
+        if (!Objects.equals(orders.getMember().getId(), member.getId())) {
             log.info(">>> 현재 사용자와 주문자가 다른 경우 <<<");
 
             throw new CustomException(CustomExceptionCode.NOT_VALID_AUTH_ERROR);
         }
+    }
+
+    // 결제 검증 성공 후 반영 (금액, 가맹점 주문 번호는 요청 값이 아닌 아임포트 결제 정보 기준)
+    private Credit completePayment(CreditRequestDto creditRequestDto, Payment payment) {
+        Long orderId = creditRequestDto.getOrderId();
+
+        if (ordersRepository.updateOrdersStatus(orderId, OrdersStatus.READY, OrdersStatus.FINISH) == 0) {
+            OrdersStatus ordersStatus = ordersRepository.findById(orderId)
+                    .map(Orders::getOrdersStatus)
+                    .orElse(null);
+
+            // 결제 전에 주문이 만료되어 예약 재고가 반환된 경우, 이 주문의 결제이면 환불
+            if (ordersStatus == OrdersStatus.CANCEL && Objects.equals(orderId, MerchantUID.parseOrderId(payment.getMerchantUid()))) {
+                log.warn(">>> 취소된 주문의 결제 : {}, {} <<<", orderId, creditRequestDto.getImpUID());
+
+                throw new CustomException(CustomExceptionCode.EXPIRED_ORDER);
+            }
 
-        // 주문 준비가 아니면 결제할 수 없음
-        if (orders.getOrdersStatus() != OrdersStatus.READY) {
             log.info(">>> 결제 준비 상태가 아닌 경우 <<<");
 
             throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
         }
 
-        // 결제 고유번호 ImpUID를 이용하여 결제 검증
-        String impUID = creditRequestDto.getImpUID();
+        Orders orders = ordersRepository.findById(orderId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_VALID_ERROR));
 
-        IamportResponse<Payment> validationResponse;
+        // 주문 금액보다 적게 결제했거나 다른 주문의 가맹점 주문 번호로 결제된 경우 (결제 위변조)
+        if (!isPaidFor(orders, payment)) {
+            log.warn(">>> 주문과 결제 정보가 다른 경우 : {}, {}, {} <<<", orderId, payment.getMerchantUid(), payment.getAmount());
 
-        try {
-            validationResponse = iamportClient.paymentByImpUid(impUID);
-        } catch (IamportResponseException e) {
-            log.info(">>> 결제 검증 중 오류 : {} <<<", e.getMessage());
+            throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+        }
 
-            throw new CustomException(CustomExceptionCode.FAIL_PAYMENT);
-        } catch (IOException e) {
-            log.info(">>> 결제 검증 중 오류 : {} <<<", e.getMessage());
+        // 결제 성공 시 결제 entity 생성 및 저장
+        Credit credit = Credit.createCredit(orders, orders.getTotalPrice(), payment.getMerchantUid(),
+                creditRequestDto.getImpUID(), creditRequestDto.getPayMethod());
+        creditRepository.save(credit);
 
-            throw new CustomException(CustomExceptionCode.FAIL_PAYMENT);
-        }
+        // 결제 성공 시 상품 sellCount + (재고는 주문 시 차감, 판매량은 기록 후 주기적으로 반영)
+        productSellCountService.increase(orders.getProductCounts());
+
+        // 주문 상태 변경, 회원 마일리지 적립
+        orders.updateOrdersStatus(OrdersStatus.FINISH);
+        orders.getMember().savedMileage(credit.getSavedMileage());
 
-        // 결제 성공 여부 체크
-        if (validationResponse.getResponse() != null && "paid".equals(validationResponse.getResponse().getStatus())) {
-            // 결제 성공 시 결제 entity 생성 및 저장
-            Credit credit = Credit.createCredit(orders, creditRequestDto.getAmount(), creditRequestDto.getMerchantUID(),
-                    creditRequestDto.getImpUID(), creditRequestDto.getPayMethod());
-            creditRepository.save(credit);
+        outboxPublisher.publish(PaymentCompleted.of(orders, credit));
 
-            // 결제 성공 시 상품 stock - , sellCount +
-            for (OrdersProduct ordersProduct : orders.getOrdersProducts()) {
-                Product product = ordersProduct.getProduct();
+        return credit;
+    }
+
+    /**
+     * 취소된 주문의 결제 환불
+     * 아임포트 환불에 실패하면 환불 필요 이벤트를 기록하여 따로 환불 처리
+     */
+    private void refundExpiredPayment(Long orderId, String impUID, Payment payment) {
+        CancelData cancelData = new CancelData(impUID, true, null);
+        cancelData.setReason(EXPIRED_REFUND_REASON);
 
-                product.addSellCount(ordersProduct.getCount());
-                product.minusStock(ordersProduct.getCount());
+        try {
+            iamportGateway.cancelPayment(impUID, cancelData);
+
+            log.info(">>> 취소된 주문의 결제 환불 : {}, {} <<<", orderId, impUID);
+
+            return;
+        } catch (IamportGatewayException e) {
+            log.warn(">>> 취소된 주문의 결제 환불 실패 : {}, {} <<<", impUID, e.getMessage());
+
+            // 시간 초과, 네트워크 오류는 아임포트에서 이미 환불되었을 수 있음
+            if (isCancelled(impUID)) {
+                return;
             }
+        }
 
-            // 주문 상태 변경, 회원 마일리지 적립
-            orders.updateOrdersStatus(OrdersStatus.FINISH);
-            member.savedMileage(credit.getSavedMileage());
-        } else {
-            log.info(">>> 결제 실패 <<<");
+        int amount = payment.getAmount() == null ? 0 : payment.getAmount().intValue();
 
-            throw new CustomException(CustomExceptionCode.FAIL_PAYMENT);
+        transactionTemplate.execute(status -> {
+            outboxPublisher.publish(PaymentRefundRequired.of(orderId, impUID, amount));
+
+            return null;
+        });
+    }
+
+    // 결제 금액이 주문 금액과 같고, 가맹점 주문 번호가 이 주문에 발급한 번호인지 확인
+    private boolean isPaidFor(Orders orders, Payment payment) {
+        if (payment.getAmount() == null || payment.getAmount().compareTo(BigDecimal.valueOf(orders.getTotalPrice())) != 0) {
+            return false;
         }
+
+        return Objects.equals(orders.getId(), MerchantUID.parseOrderId(payment.getMerchantUid()));
     }
 
     /**
@@ -115,48 +325,109 @@ public class CreditService {
      * 주문 상태 변경 및 결제 entity 취소 시간 추가
      * 상품 재고++, 판매량--
      * 회원 마일리지--
+     * 결제 정보 확인 -> 아임포트 결제 조회, 환불 요청 -> 환불 반영 을 나누어 아임포트 호출 동안 DB 커넥션을 잡고 있지 않음
      * @Param creditRefundRequestDto 결제번호, 환불 사유, 환불 은행, 환불 계좌, 환불 계좌 예금주
      */
-    @Transactional
     public void cancelPayment(CreditRefundRequestDto creditRefundRequestDto) {
-        String impUID = creditRefundRequestDto.getImpUID();
+        long start = System.nanoTime();
+        boolean success = false;
 
-        Credit credit = creditRepository.findByImpUID(impUID);
+        try {
+            String impUID = creditRefundRequestDto.getImpUID();
 
-        if (credit == null) {
-            log.info(">>> 결제 정보를 찾을 수 없음 <<<");
+            Credit credit = transactionTemplate.execute(status -> findCredit(impUID));
 
-            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
-        }
+            // 이미 환불 반영된 결제
+            if (credit.getCancelledAt() != null) {
+                log.info(">>> 이미 취소된 결제 <<<");
 
-        IamportResponse<Payment> paymentResponse = null;
+                throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+            }
 
-        // 결제 검증
-        try {
-            paymentResponse = iamportClient.paymentByImpUid(impUID);
-        } catch (IamportResponseException | IOException e) {
-            log.info(">>> 결제 검증 실패 : {} <<<", e.getMessage());
+            Payment payment;
 
-            throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+            // 결제 검증
+            try {
+                payment = iamportGateway.getPayment(impUID);
+            } catch (IamportGatewayException e) {
+                log.info(">>> 결제 검증 실패 : {} <<<", e.getMessage());
+
+                throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+            }
+
+            if (payment == null) {
+                log.info(">>> 결제 검증 실패 <<<");
+
+                throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+            }
+
+            // 이전 요청에서 아임포트 환불은 되었지만 반영하지 못한 경우 (응답 시간 초과 등) 환불 반영만 다시 처리
+            if (CANCELLED_STATUS.equalsIgnoreCase(payment.getStatus())) {
+                log.info(">>> 아임포트에서 취소된 결제, 환불 반영 : {} <<<", impUID);
+
+                transactionTemplate.execute(status -> completeCancel(impUID));
+
+                success = true;
+                return;
+            }
+
+            // 결제상태가 아니라면 취소할 수 없음
+            if (!"paid".equalsIgnoreCase(payment.getStatus())) {
+                log.info(">>> 결제 상태가 아님 <<<");
+
+                throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+            }
+
+            //환불 요청 API 호출
+            try {
+                iamportGateway.cancelPayment(impUID, createCancelData(creditRefundRequestDto));
+            } catch (IamportGatewayException e) {
+                log.info(">>> 환불 요청 실패 : {} <<<", e.getMessage());
+
+                // 시간 초과, 네트워크 오류는 아임포트에서 이미 환불되었을 수 있으므로 결제를 다시 조회해서 확인
+                if (!isCancelled(impUID)) {
+                    throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+                }
+
+                log.info(">>> 환불 요청 응답은 실패했지만 아임포트에서 취소된 결제 : {} <<<", impUID);
+            }
+
+            transactionTemplate.execute(status -> completeCancel(impUID));
+
+            success = true;
+        } finally {
+            shopMetrics.recordPayment("cancel", success, System.nanoTime() - start);
         }
+    }
 
-        if (paymentResponse == null) {
-            log.info(">>> 결제 검증 실패 <<<");
+    // 아임포트 결제가 취소 상태인지 조회 (조회도 실패하면 취소되지 않은 것으로 처리)
+    private boolean isCancelled(String impUID) {
+        try {
+            Payment payment = iamportGateway.getPayment(impUID);
 
-            throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+            return payment != null && CANCELLED_STATUS.equalsIgnoreCase(payment.getStatus());
+        } catch (IamportGatewayException e) {
+            log.info(">>> 환불 여부 조회 실패 : {} <<<", e.getMessage());
+
+            return false;
         }
+    }
 
-        Payment payment = paymentResponse.getResponse();
+    private Credit findCredit(String impUID) {
+        Credit credit = creditRepository.findByImpUID(impUID);
 
-        // 결제상태가 아니라면 취소할 수 없음
-        if (!"paid".equalsIgnoreCase(payment.getStatus())) {
-            log.info(">>> 결제 상태가 아님 <<<");
+        if (credit == null) {
+            log.info(">>> 결제 정보를 찾을 수 없음 <<<");
 
-            throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
         }
 
+        return credit;
+    }
+
+    private CancelData createCancelData(CreditRefundRequestDto creditRefundRequestDto) {
         //전체 환불
-        CancelData cancelData = new CancelData(impUID, true, null);
+        CancelData cancelData = new CancelData(creditRefundRequestDto.getImpUID(), true, null);
 
         // 사유
         if (StringUtils.hasText(creditRefundRequestDto.getReason())) {
@@ -178,41 +449,46 @@ public class CreditService {
             cancelData.setRefund_account(creditRefundRequestDto.getAccount());
         }
 
-        IamportResponse<Payment> cancelResponse = null;
+        return cancelData;
+    }
 
-        //환불 요청 API 호출
-        try {
-            cancelResponse = iamportClient.cancelPaymentByImpUid(cancelData);
-        } catch (IamportResponseException | IOException e) {
-            log.info(">>> 환불 요청 실패 : {} <<<", e.getMessage());
+    // 아임포트 환불 성공 후 반영
+    private Credit completeCancel(String impUID) {
+        Credit credit = findCredit(impUID);
 
-            throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+        // 다른 환불 요청이 먼저 반영한 경우
+        if (credit.getCancelledAt() != null) {
+            return credit;
         }
 
-        if (cancelResponse == null) {
-            log.info(">>> 환불 요청 실패 <<<");
+        Orders orders = credit.getOrders();
 
-            throw new CustomException(CustomExceptionCode.NOT_VALID_PAYMENT);
+        // 주문 상태를 조건부로 변경하여 동시에 들어온 환불 요청 중 하나만 반영 (재고, 마일리지 중복 반환 방지)
+        if (ordersRepository.updateOrdersStatus(orders.getId(), OrdersStatus.FINISH, OrdersStatus.CANCEL) == 0) {
+            log.info(">>> 이미 취소 반영된 주문 : {} <<<", orders.getId());
+
+            return credit;
         }
 
         //결제 취소 시간 추가
         credit.updateCancelledAt(LocalDateTime.now());
 
         //주문 취소 상태로 변경
-        Orders orders = credit.getOrders();
         orders.updateOrdersStatus(OrdersStatus.CANCEL);
 
-        //주문 취소 시 상품 재고 수량 + , 판매 개수 -
-        for (OrdersProduct ordersProduct : orders.getOrdersProducts()) {
-            Product product = ordersProduct.getProduct();
+        //주문 취소 시 판매 개수 -
+        productSellCountService.decrease(orders.getProductCounts());
 
-            product.minusSellCount(ordersProduct.getCount());
-            product.addStock(ordersProduct.getCount());
-        }
+        //상품 재고 수량 반환
+        productStockService.release(orders.getProductCounts());
 
         //회원 마일리지 감소
         Member member = orders.getMember();
         member.minusMileage(credit.getSavedMileage());
+
+        outboxPublisher.publish(OrderCancelled.of(orders, OrderCancelled.Reason.REFUND));
+
+        return credit;
     }
 
     @Transactional(readOnly = true)
@@ -242,4 +518,35 @@ public class CreditService {
 
         return paymentInfoDto;
     }
+
+    /**
+     * 결제창에 전달할 가맹점 주문 번호
+     * 주문 생성 시 발급한 번호를 사용하고, 발급 전에 생성된 주문이면 새로 발급하여 저장
+     * @param orderId 주문 ID (없으면 저장하지 않는 번호 생성)
+     * @return 가맹점 주문 번호
+     */
+    @Transactional
+    public String getMerchantUID(Long orderId) {
+        if (orderId == null) {
+            return MerchantUID.create(null);
+        }
+
+        Orders orders = ordersRepository.findById(orderId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_VALID_ERROR));
+
+        Member member = memberAuthorizationUtil.getMember();
+
+        // 현재 사용자와 주문자가 다른 경우
+        if (orders.getMember().getId() != member.getId()) {
+            log.info(">>> 현재 사용자와 주문자가 다른 경우 <<<");
+
+            throw new CustomException(CustomExceptionCode.NOT_VALID_AUTH_ERROR);
+        }
+
+        if (orders.getMerchantUID() == null) {
+            orders.issueMerchantUID(MerchantUID.create(orderId));
+        }
+
+        return orders.getMerchantUID();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,283 @@
+package furniture.shop.credit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.siot.IamportRestClient.IamportClient;
+import com.siot.IamportRestClient.exception.IamportResponseException;
+import com.siot.IamportRestClient.request.CancelData;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+import furniture.shop.global.ShopMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아임포트 API 호출
+ * 전용 스레드 풀 크기만큼만 동시에 호출하고 (bulkhead) 초과 요청은 바로 실패
+ * 호출마다 시간 제한을 두고, 결제 조회는 네트워크 오류/시간 초과 시 backoff 후 재시도
+ * 네트워크 오류/시간 초과가 연속으로 발생하면 일정 시간 호출하지 않고 바로 실패 (circuit breaker)
+ * 같은 결제를 동시에 조회하면 한 번만 호출하고 결과를 공유하며, 조회 결과는 잠시 캐시 (중복 결제 요청 대응)
+ */
+@Slf4j
+@Component
+public class IamportGateway {
+
+    private final IamportClient iamportClient;
+    private final ShopMetrics shopMetrics;
+
+    private final long timeoutMillis;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final ThreadPoolExecutor executor;
+
+    // 동시 호출 수 (호출이 끝나면 바로 반환하여 이어지는 호출이 스레드 반환 시점에 따라 실패하지 않도록)
+    private final Semaphore permits;
+
+    // 결제 조회 결과 캐시 (결제 상태가 바뀔 수 있으므로 짧게 유지)
+    private static final Duration PAYMENT_CACHE_TTL = Duration.ofSeconds(2);
+
+    private final Cache<String, Payment> paymentCache = Caffeine.newBuilder()
+            .maximumSize(10000L)
+            .expireAfterWrite(PAYMENT_CACHE_TTL)
+            .build();
+
+    // 진행 중인 결제 조회 (impUID 당 하나)
+    private final Map<String, CompletableFuture<Payment>> inFlightLookups = new ConcurrentHashMap<>();
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openUntil = 0L;
+
+    public IamportGateway(IamportClient iamportClient,
+                          ShopMetrics shopMetrics,
+                          @Value("${iamport.gateway.timeout-millis:3000}") long timeoutMillis,
+                          @Value("${iamport.gateway.max-concurrent:20}") int maxConcurrent,
+                          @Value("${iamport.gateway.max-attempts:3}") int maxAttempts,
+                          @Value("${iamport.gateway.backoff-millis:200}") long backoffMillis,
+                          @Value("${iamport.gateway.failure-threshold:5}") int failureThreshold,
+                          @Value("${iamport.gateway.open-millis:30000}") long openMillis) {
+        this.iamportClient = iamportClient;
+        this.shopMetrics = shopMetrics;
+        this.timeoutMillis = timeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.permits = new Semaphore(maxConcurrent);
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "iamport-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 결제 조회
+     * 캐시에 있으면 바로 반환하고, 같은 impUID 조회가 진행 중이면 그 결과를 기다림
+     * @return 결제 정보, 응답이 비어있으면 null
+     */
+    public Payment getPayment(String impUID) {
+        Payment cached = paymentCache.getIfPresent(impUID);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<Payment> lookup = new CompletableFuture<>();
+        CompletableFuture<Payment> inFlight = inFlightLookups.putIfAbsent(impUID, lookup);
+
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            Payment payment = lookupPayment(impUID);
+
+            if (payment != null) {
+                paymentCache.put(impUID, payment);
+            }
+
+            lookup.complete(payment);
+
+            return payment;
+        } catch (RuntimeException e) {
+            lookup.completeExceptionally(e);
+
+            throw e;
+        } finally {
+            inFlightLookups.remove(impUID, lookup);
+        }
+    }
+
+    // 조회는 여러 번 호출해도 결과가 같으므로 재시도
+    private Payment lookupPayment(String impUID) {
+        IamportGatewayException lastException = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                return call("payment", () -> iamportClient.paymentByImpUid(impUID));
+            } catch (RetryableException e) {
+                lastException = e;
+
+                if (attempt < maxAttempts) {
+                    sleep(backoffMillis * (1L << (attempt - 1)));
+                }
+            }
+        }
+
+        throw lastException;
+    }
+
+    private Payment await(CompletableFuture<Payment> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IamportGatewayException gatewayException) {
+                throw gatewayException;
+            }
+
+            throw new IamportGatewayException("아임포트 결제 조회 실패", e.getCause());
+        }
+    }
+
+    // 결제 취소 (중복 환불 요청이 되지 않도록 재시도하지 않음)
+    public Payment cancelPayment(String impUID, CancelData cancelData) {
+        try {
+            return call("cancel", () -> iamportClient.cancelPaymentByImpUid(cancelData));
+        } finally {
+            // 취소 후에는 이전 결제 상태를 돌려주지 않도록 삭제
+            evictPayment(impUID);
+        }
+    }
+
+    public void evictPayment(String impUID) {
+        paymentCache.invalidate(impUID);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Payment call(String operation, IamportCall iamportCall) {
+        if (System.currentTimeMillis() < openUntil) {
+            throw new IamportGatewayException("아임포트 호출 차단 중");
+        }
+
+        long start = System.nanoTime();
+
+        if (!permits.tryAcquire()) {
+            shopMetrics.recordIamport(operation, false, System.nanoTime() - start);
+
+            throw new IamportGatewayException("아임포트 동시 호출 수 초과");
+        }
+
+        Future<IamportResponse<Payment>> future;
+
+        try {
+            future = executor.submit(() -> {
+                try {
+                    return iamportCall.call();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            shopMetrics.recordIamport(operation, false, System.nanoTime() - start);
+
+            throw new IamportGatewayException("아임포트 호출 실패", e);
+        }
+
+        try {
+            IamportResponse<Payment> response = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+
+            succeeded(operation, start);
+
+            return response == null ? null : response.getResponse();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            failed(operation, start);
+
+            throw new RetryableException("아임포트 응답 시간 초과", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                failed(operation, start);
+
+                throw new RetryableException("아임포트 네트워크 오류", e.getCause());
+            }
+
+            // 아임포트가 응답한 오류는 장애가 아니므로 호출 차단 판단에서 제외 (없는 결제 조회 등으로 차단되지 않도록)
+            shopMetrics.recordIamport(operation, false, System.nanoTime() - start);
+
+            if (e.getCause() instanceof IamportResponseException responseException
+                    && responseException.getHttpStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new IamportNotFoundException("아임포트 결제 정보 없음", responseException);
+            }
+
+            throw new IamportGatewayException("아임포트 응답 오류", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+
+            throw new IamportGatewayException("아임포트 호출 중단", e);
+        }
+    }
+
+    private void succeeded(String operation, long start) {
+        shopMetrics.recordIamport(operation, true, System.nanoTime() - start);
+
+        consecutiveFailures.set(0);
+    }
+
+    private void failed(String operation, long start) {
+        shopMetrics.recordIamport(operation, false, System.nanoTime() - start);
+
+        // 연속 실패가 기준을 넘으면 일정 시간 호출 차단, 이후 첫 호출 결과로 다시 판단
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            log.warn(">>> 아임포트 연속 {}회 실패, {}ms 동안 호출 차단 <<<", consecutiveFailures.get(), openMillis);
+
+            openUntil = System.currentTimeMillis() + openMillis;
+            consecutiveFailures.set(0);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new IamportGatewayException("아임포트 재시도 중단", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IamportCall {
+        IamportResponse<Payment> call() throws IamportResponseException, IOException;
+    }
+
+    // 네트워크 오류, 시간 초과 (재시도 가능)
+    private static class RetryableException extends IamportGatewayException {
+        RetryableException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package furniture.shop.credit;
+
+/**
+ * 아임포트 API 호출 실패 (응답 오류, 시간 초과, 호출 제한, 차단 상태)
+ */
+public class IamportGatewayException extends RuntimeException {
+
+    public IamportGatewayException(String message) {
+        super(message);
+    }
+
+    public IamportGatewayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package furniture.shop.credit;
+
+/**
+ * 아임포트에 없는 결제 (재시도해도 결과가 같음)
+ */
+public class IamportNotFoundException extends IamportGatewayException {
+
+    public IamportNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,53 @@
+package furniture.shop.credit;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 가맹점 주문 번호 생성
+ * 웹훅에는 주문 번호가 없으므로 가맹점 주문 번호에 주문 ID 를 포함하여 결제 정보만으로 주문을 찾을 수 있도록 함
+ * 형식 : order_{주문 ID}_{yyyyMMdd}_{uuid} (주문 ID 가 없으면 order_{yyyyMMdd}_{uuid})
+ */
+public final class MerchantUID {
+
+    private static final Pattern ORDER_PATTERN = Pattern.compile("^order_(\\d+)_\\d{8}_[0-9a-fA-F-]{36}$");
+
+    private MerchantUID() {
+    }
+
+    public static String create(Long orderId) {
+        String today = new SimpleDateFormat("yyyyMMdd").format(new Date());
+
+        String uuid = UUID.randomUUID().toString();
+
+        if (orderId == null) {
+            return "order_" + today + "_" + uuid;
+        }
+
+        return "order_" + orderId + "_" + today + "_" + uuid;
+    }
+
+    /**
+     * @return 가맹점 주문 번호에 포함된 주문 ID, 없으면 null
+     */
+    public static Long parseOrderId(String merchantUID) {
+        if (merchantUID == null) {
+            return null;
+        }
+
+        Matcher matcher = ORDER_PATTERN.matcher(merchantUID);
+
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(matcher.group(1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
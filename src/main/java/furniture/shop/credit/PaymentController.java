@@ -7,12 +7,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.UUID;
-
 @Controller
 @RequiredArgsConstructor
 public class PaymentController {
@@ -29,8 +26,9 @@ public class PaymentController {
 
     @GetMapping("/payment/merchant")
     @ResponseBody
-    public ResponseEntity<String> generateMerchantUID() {
-        String merchantUID = makeMerchantUID();
+    public ResponseEntity<String> generateMerchantUID(@RequestParam(value = "orderId", required = false) Long orderId) {
+        // 주문 생성 시 발급한 번호 (웹훅으로 결제를 확정할 수 있도록 주문 ID 포함)
+        String merchantUID = creditService.getMerchantUID(orderId);
 
         return ResponseEntity.ok(merchantUID);
     }
@@ -48,12 +46,4 @@ public class PaymentController {
 
         return ResponseEntity.ok(paymentInfo);
     }
-
-    private String makeMerchantUID() {
-        String today = new SimpleDateFormat("yyyyMMdd").format(new Date());
-
-        String uuid = UUID.randomUUID().toString();
-
-        return "order_" + today + "_" + uuid;
-    }
 }
@@ -0,0 +1,108 @@
+package furniture.shop.credit;
+
+import furniture.shop.configure.exception.CustomException;
+import furniture.shop.configure.exception.CustomExceptionCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 결제 완료 요청 중복 처리 방지
+ * impUID 별로 Redis SETNX 로 처리 중 표시 후, 성공하면 결과를 저장하여 재시도 요청은 바로 성공 응답
+ * 처리 중인 요청과 겹치면 409, 실패하면 표시를 지워 다시 시도 가능
+ * Redis 장애 시에는 사용하지 않음 (주문 상태 조건부 변경과 impUID unique 제약으로 중복 반영은 막힘)
+ */
+@Slf4j
+@Component
+public class PaymentIdempotency {
+
+    public enum Result {
+        ACQUIRED, COMPLETED, UNAVAILABLE
+    }
+
+    private static final String KEY_PREFIX = "credit:complete:";
+    private static final String PROCESSING = "PROCESSING:";
+    private static final String COMPLETED = "COMPLETED:";
+
+    // 처리 중 표시 유지 시간 (아임포트 재시도를 포함한 최대 처리 시간보다 길게)
+    private static final Duration PROCESSING_TTL = Duration.ofMinutes(1);
+    private static final Duration COMPLETED_TTL = Duration.ofHours(24);
+
+    private static final long REDIS_RETRY_MILLIS = 10000L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private volatile long redisRetryAt = 0L;
+
+    public PaymentIdempotency(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * @return 처음 요청이면 ACQUIRED, 이미 완료된 요청이면 COMPLETED, Redis 를 사용할 수 없으면 UNAVAILABLE
+     */
+    public Result acquire(String impUID, Long orderId) {
+        if (System.currentTimeMillis() < redisRetryAt) {
+            return Result.UNAVAILABLE;
+        }
+
+        String key = KEY_PREFIX + impUID;
+
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, PROCESSING + orderId, PROCESSING_TTL))) {
+                return Result.ACQUIRED;
+            }
+
+            String value = redisTemplate.opsForValue().get(key);
+
+            // 그 사이 실패하여 표시가 지워진 경우 한 번 더 시도
+            if (value == null) {
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, PROCESSING + orderId, PROCESSING_TTL))) {
+                    return Result.ACQUIRED;
+                }
+
+                throw new CustomException(CustomExceptionCode.PAYMENT_IN_PROGRESS);
+            }
+
+            // 같은 결제 번호로 다른 주문을 완료하려는 경우
+            if (!value.endsWith(":" + orderId)) {
+                throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+            }
+
+            if (value.startsWith(COMPLETED)) {
+                return Result.COMPLETED;
+            }
+
+            throw new CustomException(CustomExceptionCode.PAYMENT_IN_PROGRESS);
+        } catch (DataAccessException e) {
+            redisFailed(e);
+
+            return Result.UNAVAILABLE;
+        }
+    }
+
+    public void complete(String impUID, Long orderId) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + impUID, COMPLETED + orderId, COMPLETED_TTL);
+        } catch (DataAccessException e) {
+            redisFailed(e);
+        }
+    }
+
+    public void release(String impUID) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + impUID);
+        } catch (DataAccessException e) {
+            redisFailed(e);
+        }
+    }
+
+    private void redisFailed(DataAccessException e) {
+        log.warn("결제 중복 방지 Redis 사용 불가 : {}", e.getMessage());
+
+        redisRetryAt = System.currentTimeMillis() + REDIS_RETRY_MILLIS;
+    }
+}
@@ -0,0 +1,52 @@
+package furniture.shop.credit;
+
+import furniture.shop.configure.BaseTimeEntity;
+import furniture.shop.credit.constant.PaymentWebhookStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아임포트 웹훅 수신 기록 (결제 확정 대기열)
+ * 같은 결제(impUID)의 결제 완료 알림은 하나의 행으로 한 번만 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_payment_webhook_status", columnList = "status, nextAttemptAt"))
+public class PaymentWebhook extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_webhook_seq")
+    @SequenceGenerator(name = "payment_webhook_seq", sequenceName = "payment_webhook_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(unique = true, nullable = false)
+    private String impUID; //고유 결제 번호(iamport)
+
+    private String merchantUID; //가맹점 주문 번호 (웹훅 본문 값, 처리 시에는 아임포트 조회 결과 사용)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentWebhookStatus status;
+
+    private int attempts; //처리 시도 횟수
+
+    private LocalDateTime nextAttemptAt; //다음 처리 가능 시각
+
+    private LocalDateTime lockedAt; //처리 시작 시각
+
+    public static PaymentWebhook createPaymentWebhook(String impUID, String merchantUID) {
+        PaymentWebhook paymentWebhook = new PaymentWebhook();
+
+        paymentWebhook.impUID = impUID;
+        paymentWebhook.merchantUID = merchantUID;
+        paymentWebhook.status = PaymentWebhookStatus.WAITING;
+        paymentWebhook.nextAttemptAt = LocalDateTime.now();
+
+        return paymentWebhook;
+    }
+}
@@ -0,0 +1,45 @@
+package furniture.shop.credit;
+
+import furniture.shop.credit.constant.PaymentWebhookStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PaymentWebhookRepository extends JpaRepository<PaymentWebhook, Long> {
+
+    boolean existsByImpUID(String impUID);
+
+    @Query("select w.id from PaymentWebhook w where w.status = :status and w.nextAttemptAt <= :now order by w.id asc")
+    List<Long> findReadyIds(@Param("status") PaymentWebhookStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 처리 대기 중인 경우에만 처리 중으로 변경 (다른 서버가 먼저 가져간 경우 0)
+    @Transactional
+    @Modifying
+    @Query("update PaymentWebhook w set w.status = furniture.shop.credit.constant.PaymentWebhookStatus.PROCESSING, w.lockedAt = :now " +
+            "where w.id = :id and w.status = furniture.shop.credit.constant.PaymentWebhookStatus.WAITING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update PaymentWebhook w set w.status = :status, w.attempts = w.attempts + 1 where w.id = :id")
+    int finish(@Param("id") Long id, @Param("status") PaymentWebhookStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("update PaymentWebhook w set w.status = furniture.shop.credit.constant.PaymentWebhookStatus.WAITING, " +
+            "w.attempts = w.attempts + 1, w.nextAttemptAt = :nextAttemptAt where w.id = :id")
+    int retryLater(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // 처리 중 서버가 중단되어 남은 건을 다시 대기 상태로
+    @Transactional
+    @Modifying
+    @Query("update PaymentWebhook w set w.status = furniture.shop.credit.constant.PaymentWebhookStatus.WAITING " +
+            "where w.status = furniture.shop.credit.constant.PaymentWebhookStatus.PROCESSING and w.lockedAt < :before")
+    int releaseStale(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,197 @@
+package furniture.shop.credit;
+
+import furniture.shop.configure.exception.CustomException;
+import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.credit.constant.PaymentWebhookStatus;
+import furniture.shop.order.OrdersRepository;
+import furniture.shop.order.contsant.OrdersStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아임포트 웹훅 결제 확정
+ * 웹훅 요청은 대기열(DB)에 기록만 하고 바로 응답하며, 주기적으로 대기열을 가져와 정해진 수의 작업 스레드에서 결제 확정
+ * 사용자가 결제 완료 요청을 보내지 못한 경우(창 닫힘, 네트워크 오류 등)에도 결제가 반영되도록 함
+ */
+@Slf4j
+@Service
+public class PaymentWebhookService {
+
+    // 아임포트 결제 완료 상태
+    private static final String PAID_STATUS = "paid";
+
+    // 한 번에 가져올 최대 건수
+    private static final int BATCH_SIZE = 50;
+
+    // 최대 처리 시도 횟수
+    private static final int MAX_ATTEMPTS = 5;
+
+    // 재시도 대기 시간 (시도마다 2배)
+    private static final long RETRY_DELAY_SECONDS = 10L;
+
+    // 처리 중 상태로 남아 있으면 서버 중단으로 보고 다시 처리하는 시간
+    private static final long PROCESSING_TIMEOUT_MINUTES = 5L;
+
+    private final PaymentWebhookRepository paymentWebhookRepository;
+    private final OrdersRepository ordersRepository;
+    private final CreditService creditService;
+    private final ExecutorService executor;
+
+    public PaymentWebhookService(PaymentWebhookRepository paymentWebhookRepository,
+                                 OrdersRepository ordersRepository,
+                                 CreditService creditService,
+                                 @Value("${payment.webhook.workers:4}") int workers) {
+        this.paymentWebhookRepository = paymentWebhookRepository;
+        this.ordersRepository = ordersRepository;
+        this.creditService = creditService;
+
+        AtomicInteger threadCount = new AtomicInteger();
+
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "payment-webhook-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * 웹훅 수신, 같은 결제의 알림은 한 번만 기록
+     * 결제 완료 알림이 아니거나 결제 대기 중인 주문에 발급한 가맹점 주문 번호가 아니면 기록하지 않음 (임의 요청으로 대기열이 쌓이지 않도록)
+     * @param impUID 결제 고유번호
+     * @param merchantUID 가맹점 주문 번호
+     * @param status 결제 상태
+     */
+    public void enqueue(String impUID, String merchantUID, String status) {
+        if (!StringUtils.hasText(impUID)) {
+            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+        }
+
+        // 가상계좌 발급, 결제 실패, 취소 알림은 결제 확정 대상이 아님
+        if (!PAID_STATUS.equals(status)) {
+            return;
+        }
+
+        Long orderId = MerchantUID.parseOrderId(merchantUID);
+
+        // 주문 ID 는 추측할 수 있으므로 주문 생성 시 발급한 가맹점 주문 번호와 같은 경우만 기록
+        if (orderId == null || !ordersRepository.existsByIdAndOrdersStatusAndMerchantUID(orderId, OrdersStatus.READY, merchantUID)) {
+            log.info(">>> 결제 대기 중인 주문이 아닌 웹훅 : {}, {} <<<", impUID, merchantUID);
+
+            return;
+        }
+
+        // 처리가 끝난 결제(완료, 실패)는 다시 처리하지 않음
+        if (paymentWebhookRepository.existsByImpUID(impUID)) {
+            return;
+        }
+
+        try {
+            paymentWebhookRepository.save(PaymentWebhook.createPaymentWebhook(impUID, merchantUID));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 알림이 동시에 들어온 경우
+            log.debug(">>> 이미 수신한 웹훅 : {} <<<", impUID);
+        }
+    }
+
+    /**
+     * 처리할 웹훅을 가져와 작업 스레드에서 결제 확정
+     * 다른 서버와 같은 건을 처리하지 않도록 상태를 변경한 건만 처리
+     * @return 처리한 건수
+     */
+    public int process() {
+        LocalDateTime now = LocalDateTime.now();
+
+        paymentWebhookRepository.releaseStale(now.minusMinutes(PROCESSING_TIMEOUT_MINUTES));
+
+        List<Long> ids = paymentWebhookRepository.findReadyIds(PaymentWebhookStatus.WAITING, now, PageRequest.of(0, BATCH_SIZE));
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+
+        for (Long id : ids) {
+            if (paymentWebhookRepository.claim(id, now) == 1) {
+                tasks.add(() -> {
+                    confirm(id);
+
+                    return null;
+                });
+            }
+        }
+
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            // 모두 끝날 때까지 대기하여 다음 주기와 겹치지 않도록 함
+            executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return tasks.size();
+    }
+
+    private void confirm(Long id) {
+        PaymentWebhook paymentWebhook = paymentWebhookRepository.findById(id).orElse(null);
+
+        if (paymentWebhook == null) {
+            return;
+        }
+
+        try {
+            creditService.confirmWebhookPayment(paymentWebhook.getImpUID());
+
+            paymentWebhookRepository.finish(id, PaymentWebhookStatus.DONE);
+        } catch (CustomException e) {
+            if (isRetryable(e.getCode())) {
+                retryOrFail(id, paymentWebhook, e.getCode().name());
+            } else {
+                log.warn(">>> 웹훅 결제 확정 실패 : {}, {} <<<", paymentWebhook.getImpUID(), e.getCode());
+
+                paymentWebhookRepository.finish(id, PaymentWebhookStatus.FAILED);
+            }
+        } catch (RuntimeException e) {
+            retryOrFail(id, paymentWebhook, e.getMessage());
+        }
+    }
+
+    // 아임포트 호출 실패, 다른 요청에서 처리 중인 경우에만 재시도
+    private boolean isRetryable(CustomExceptionCode code) {
+        return code == CustomExceptionCode.FAIL_PAYMENT || code == CustomExceptionCode.PAYMENT_IN_PROGRESS;
+    }
+
+    private void retryOrFail(Long id, PaymentWebhook paymentWebhook, String reason) {
+        int attempts = paymentWebhook.getAttempts() + 1;
+
+        if (attempts >= MAX_ATTEMPTS) {
+            log.warn(">>> 웹훅 결제 확정 재시도 초과 : {}, {} <<<", paymentWebhook.getImpUID(), reason);
+
+            paymentWebhookRepository.finish(id, PaymentWebhookStatus.FAILED);
+
+            return;
+        }
+
+        long delay = RETRY_DELAY_SECONDS << (attempts - 1);
+
+        paymentWebhookRepository.retryLater(id, LocalDateTime.now().plusSeconds(delay));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
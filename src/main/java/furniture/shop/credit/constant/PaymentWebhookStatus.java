@@ -0,0 +1,17 @@
+package furniture.shop.credit.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum PaymentWebhookStatus {
+
+    WAITING("처리대기"),
+    PROCESSING("처리중"),
+    DONE("처리완료"),
+    FAILED("처리실패")
+    ;
+
+    @Getter
+    private final String korean;
+}
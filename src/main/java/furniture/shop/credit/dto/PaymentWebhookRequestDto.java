@@ -0,0 +1,25 @@
+package furniture.shop.credit.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "아임포트 웹훅 Request DTO")
+public class PaymentWebhookRequestDto {
+
+    @JsonProperty("imp_uid")
+    @Schema(description = "Iamport 고유 결제 번호")
+    private String impUID;
+
+    @JsonProperty("merchant_uid")
+    @Schema(description = "가맹점 주문 번호")
+    private String merchantUID;
+
+    @Schema(description = "결제 상태", example = "paid, ready, failed, cancelled")
+    private String status;
+}
@@ -0,0 +1,76 @@
+package furniture.shop.global;
+
+import furniture.shop.cart.CartStore;
+import furniture.shop.cart.CartWriteBehind;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartWriteBehindScheduling {
+
+    // 한 번에 반영할 최대 회원 수
+    private static final int FLUSH_SIZE = 500;
+
+    private final CartStore cartStore;
+    private final CartWriteBehind cartWriteBehind;
+
+    //5초마다 변경된 Redis 장바구니를 DB 에 반영 (실패한 회원은 다음 주기에 다시 반영)
+    //반영을 마친 회원만 반영 중 목록에서 삭제하고, 남은 회원은 일정 시간 후 다시 반영 대기 목록으로 옮겨짐
+    @Scheduled(fixedDelay = 5000)
+    public void run() {
+        if (!cartStore.isAvailable()) {
+            return;
+        }
+
+        List<Long> memberIds;
+
+        try {
+            memberIds = cartStore.popDirty(FLUSH_SIZE);
+        } catch (DataAccessException e) {
+            cartStore.markUnavailable(e);
+
+            return;
+        }
+
+        List<Long> completedIds = new ArrayList<>(memberIds.size());
+
+        for (Long memberId : memberIds) {
+            try {
+                //Redis 오류, 남은 회원은 반영 중 목록에 남김
+                if (!cartWriteBehind.flush(memberId)) {
+                    break;
+                }
+            } catch (RuntimeException e) {
+                log.warn(">>> 장바구니 DB 반영 실패 : {}, {} <<<", memberId, e.getMessage());
+
+                try {
+                    cartStore.markDirty(memberId);
+                } catch (DataAccessException ex) {
+                    cartStore.markUnavailable(ex);
+
+                    break;
+                }
+            }
+
+            completedIds.add(memberId);
+        }
+
+        if (completedIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            cartStore.completeDirty(completedIds);
+        } catch (DataAccessException e) {
+            cartStore.markUnavailable(e);
+        }
+    }
+}
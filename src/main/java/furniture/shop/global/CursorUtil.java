@@ -0,0 +1,63 @@
+package furniture.shop.global;
+
+import furniture.shop.configure.exception.CustomException;
+import furniture.shop.configure.exception.CustomExceptionCode;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 조회의 커서 인코딩
+ * 마지막으로 조회한 정렬 키 값들을 구분자로 이어 Base64(URL safe) 로 감싼다.
+ */
+public class CursorUtil {
+
+    private static final String DELIMITER = "|";
+    private static final int MAX_SIZE = 100;
+
+    private CursorUtil() {
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                sb.append(DELIMITER);
+            }
+
+            sb.append(keys[i]);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void checkSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+        }
+    }
+
+    /**
+     * @return 커서가 없으면 null (첫 조회)
+     */
+    public static String[] decode(String cursor, int keyCount) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = decoded.split("\\|", -1);
+
+            if (keys.length != keyCount) {
+                throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+            }
+
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+        }
+    }
+}
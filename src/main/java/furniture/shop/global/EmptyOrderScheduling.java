@@ -1,30 +1,102 @@
 package furniture.shop.global;
 
-import furniture.shop.order.Orders;
+import furniture.shop.global.lease.IdRange;
+import furniture.shop.global.lease.ShardedJobRunner;
 import furniture.shop.order.OrdersQueryRepository;
-import furniture.shop.order.OrdersRepository;
+import furniture.shop.order.OrdersService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class EmptyOrderScheduling {
+
+    private static final String JOB_NAME = "empty-order";
+
+    // 결제하지 않고 남겨둘 시간
+    private static final long EXPIRE_MINUTES = 30L;
+
+    // 주문 ID 구간을 나눌 수 (서버마다 다른 구간을 처리)
+    private static final int SHARD_COUNT = 4;
+
+    // 트랜잭션 하나에서 처리할 주문 수
+    private static final int CHUNK_SIZE = 500;
+
+    // 한 번 실행 시 최대 처리 시간 (남은 주문은 다른 서버나 다음 주기에 처리)
+    private static final long TIME_BUDGET_MILLIS = 20000L;
+
+    // shard lease 유지 시간 (실행 중에는 자동 연장)
+    private static final Duration LEASE_TTL = Duration.ofMinutes(1);
+
+    // 처리를 마친 shard 를 같은 주기에 다른 서버가 다시 처리하지 않도록 유지할 시간 (실행 주기 이상)
+    private static final Duration HOLD_FOR = Duration.ofMinutes(30);
+
+    private final OrdersService ordersService;
     private final OrdersQueryRepository ordersQueryRepository;
-    private final OrdersRepository ordersRepository;
+    private final ShardedJobRunner shardedJobRunner;
+    private final ShopMetrics shopMetrics;
 
-    //30분마다 주문하려다 취소한 것들 DB에서 삭제 (30분이 지난 것들만)
+    //30분마다 주문하려다 취소한 것들 DB에서 삭제 (30분이 지난 것들만), 예약된 재고 반환
+    //주문은 보통 만료 시각에 OrderExpiryScheduling 에서 처리되고, 여기서는 만료 예약이 누락된 주문만 남음
     @Scheduled(fixedDelay = 1800000)
     public void run() {
-        List<Orders> emptyOrders = ordersQueryRepository.getEmptyOrders();
+        long start = System.nanoTime();
+
+        LocalDateTime before = LocalDateTime.now().minusMinutes(EXPIRE_MINUTES);
+        IdRange range = ordersQueryRepository.getEmptyOrderIdRange(before);
+
+        if (range == null) {
+            shopMetrics.recordOrderPurge("done", 0, System.nanoTime() - start);
 
-        //주문 30분이 지난 것들이 있으면 삭제
-        if (!emptyOrders.isEmpty()) {
-            for (Orders order : emptyOrders) {
-                ordersRepository.delete(order);
+            return;
+        }
+
+        long deadline = System.currentTimeMillis() + TIME_BUDGET_MILLIS;
+        AtomicInteger total = new AtomicInteger();
+        AtomicReference<String> result = new AtomicReference<>("done");
+
+        try {
+            int executed = shardedJobRunner.run(JOB_NAME, SHARD_COUNT, LEASE_TTL, HOLD_FOR, (shard, shardCount, lease) -> {
+                IdRange shardRange = range.shard(shard, shardCount);
+
+                while (!shardRange.isEmpty()) {
+                    //lease 를 잃었거나 (다른 서버가 이어서 처리) 시간 초과
+                    if (!lease.isValid() || System.currentTimeMillis() >= deadline) {
+                        log.info(">>> 만료 주문 정리 중단, 남은 주문은 이어서 처리 : {} 건 처리 <<<", total.get());
+
+                        result.set("partial");
+                        return false;
+                    }
+
+                    int purged = ordersService.purgeEmptyOrders(before, shardRange, CHUNK_SIZE);
+                    total.addAndGet(purged);
+
+                    if (purged < CHUNK_SIZE) {
+                        break;
+                    }
+                }
+
+                return true;
+            });
+
+            //모든 shard 를 다른 서버에서 처리 중
+            if (executed == 0) {
+                result.set("skipped");
             }
+        } catch (RuntimeException e) {
+            result.set("error");
+
+            throw e;
+        } finally {
+            shopMetrics.recordOrderPurge(result.get(), total.get(), System.nanoTime() - start);
         }
     }
 }
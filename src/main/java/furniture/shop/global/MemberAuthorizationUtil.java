@@ -2,6 +2,7 @@ package furniture.shop.global;
 
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.configure.jwt.MemberPrincipal;
 import furniture.shop.member.Member;
 import furniture.shop.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -25,9 +26,16 @@ public class MemberAuthorizationUtil {
     }
 
     public Member getMember() {
-        String email = getAuthenticationEmail();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        Member member;
 
-        Member member = memberRepository.findByEmail(email);
+        // 토큰에 회원 id 가 있으면 PK 로 조회
+        if (authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            member = memberRepository.findById(principal.getMemberId()).orElse(null);
+        } else {
+            member = memberRepository.findByEmail(getAuthenticationEmail());
+        }
 
         if (member == null) {
             throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
@@ -0,0 +1,87 @@
+package furniture.shop.global;
+
+import furniture.shop.order.OrderExpiryQueue;
+import furniture.shop.order.OrdersService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 만료 처리
+ * 1초마다 1분 안에 만료될 주문을 Redis 에서 꺼내 타이머 휠에 넣고, 만료 시각에 주문 만료
+ * 테이블 전체를 주기적으로 검사하지 않고 만료되는 주문만 처리 (EmptyOrderScheduling 은 예약이 누락된 주문 정리용)
+ */
+@Slf4j
+@Component
+public class OrderExpiryScheduling {
+
+    // 타이머 휠에 미리 넣어둘 범위
+    private static final long HORIZON_MILLIS = 60000L;
+
+    // 한 번에 꺼낼 최대 주문 수
+    private static final int POLL_SIZE = 1000;
+
+    // 만료 처리 실패 시 다시 시도할 시간
+    private static final long RETRY_DELAY_MILLIS = 30000L;
+
+    // 타이머 휠 tick, 칸 수 (한 바퀴 약 100초)
+    private static final long TICK_MILLIS = 100L;
+    private static final int WHEEL_SIZE = 1024;
+
+    private final OrderExpiryQueue orderExpiryQueue;
+    private final OrdersService ordersService;
+    private final ShopMetrics shopMetrics;
+
+    private final ExecutorService executor;
+    private final TimerWheel timerWheel;
+
+    public OrderExpiryScheduling(OrderExpiryQueue orderExpiryQueue, OrdersService ordersService, ShopMetrics shopMetrics) {
+        this.orderExpiryQueue = orderExpiryQueue;
+        this.ordersService = ordersService;
+        this.shopMetrics = shopMetrics;
+
+        AtomicInteger threadCount = new AtomicInteger();
+
+        this.executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "order-expiry-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.timerWheel = new TimerWheel("order-expiry-wheel", TICK_MILLIS, WHEEL_SIZE, executor);
+    }
+
+    //1초마다 곧 만료될 주문을 타이머 휠로 옮김
+    @Scheduled(fixedDelay = 1000)
+    public void run() {
+        long now = System.currentTimeMillis();
+
+        for (OrderExpiryQueue.DueOrder dueOrder : orderExpiryQueue.popDue(now + HORIZON_MILLIS, POLL_SIZE)) {
+            timerWheel.schedule(() -> expire(dueOrder.ordersId()), dueOrder.deadline() - now);
+        }
+    }
+
+    private void expire(Long ordersId) {
+        try {
+            shopMetrics.orderExpiry(ordersService.expireOrder(ordersId) ? "expired" : "skipped");
+        } catch (RuntimeException e) {
+            log.warn(">>> 주문 만료 실패, 다시 예약 : {}, {} <<<", ordersId, e.getMessage());
+
+            shopMetrics.orderExpiry("error");
+
+            orderExpiryQueue.add(ordersId, System.currentTimeMillis() + RETRY_DELAY_MILLIS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timerWheel.stop();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,27 @@
+package furniture.shop.global;
+
+import furniture.shop.global.lease.ClusterJob;
+import furniture.shop.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduling {
+    private final OutboxRelay outboxRelay;
+
+    //1초마다 발행되지 않은 도메인 이벤트 발행
+    @ClusterJob("outbox-relay")
+    @Scheduled(fixedDelay = 1000)
+    public void run() {
+        outboxRelay.relay();
+    }
+
+    //1시간마다 발행이 끝난 오래된 이벤트 삭제
+    @ClusterJob(value = "outbox-purge", holdMillis = 3600000L)
+    @Scheduled(fixedDelay = 3600000)
+    public void purge() {
+        outboxRelay.purge();
+    }
+}
@@ -0,0 +1,18 @@
+package furniture.shop.global;
+
+import furniture.shop.credit.PaymentWebhookService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentWebhookScheduling {
+    private final PaymentWebhookService paymentWebhookService;
+
+    //1초마다 수신한 아임포트 웹훅의 결제 확정 처리
+    @Scheduled(fixedDelay = 1000)
+    public void run() {
+        paymentWebhookService.process();
+    }
+}
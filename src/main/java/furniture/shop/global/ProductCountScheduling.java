@@ -0,0 +1,22 @@
+package furniture.shop.global;
+
+import furniture.shop.product.ProductCountCache;
+import furniture.shop.product.ProductQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class ProductCountScheduling {
+    private final ProductQueryRepository productQueryRepository;
+    private final ProductCountCache productCountCache;
+
+    //5분마다 카테고리, 상태별 상품 개수를 DB 기준으로 다시 맞춤 (다른 서버에서 변경된 개수 보정)
+    @Scheduled(fixedDelay = 300000)
+    @Transactional(readOnly = true)
+    public void run() {
+        productCountCache.reload(productQueryRepository.countProductGroupByCategoryAndStatus());
+    }
+}
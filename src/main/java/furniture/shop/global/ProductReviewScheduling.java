@@ -0,0 +1,60 @@
+package furniture.shop.global;
+
+import furniture.shop.global.lease.IdRange;
+import furniture.shop.global.lease.ShardedJobRunner;
+import furniture.shop.product.ProductQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class ProductReviewScheduling {
+    private final ProductQueryRepository productQueryRepository;
+    private final ShardedJobRunner shardedJobRunner;
+
+    private static final String JOB_NAME = "product-review";
+
+    // 한 번에 다시 계산할 상품 수 (상품 행 잠금 시간 제한)
+    private static final long CHUNK_SIZE = 1000L;
+
+    // 상품 ID 구간을 나눌 수 (서버마다 다른 구간을 처리)
+    private static final int SHARD_COUNT = 4;
+
+    private static final Duration LEASE_TTL = Duration.ofMinutes(1);
+
+    // 처리를 마친 shard 를 같은 주기에 다른 서버가 다시 처리하지 않도록 유지할 시간 (실행 주기 이상)
+    private static final Duration HOLD_FOR = Duration.ofHours(1);
+
+    //기동 시, 이후 1시간마다 상품의 리뷰 개수, 별점 합계를 리뷰 기준으로 보정 (구간별로 트랜잭션 분리)
+    @Scheduled(fixedDelay = 3600000)
+    public void run() {
+        long maxProductId = productQueryRepository.findMaxProductId();
+
+        if (maxProductId == 0L) {
+            return;
+        }
+
+        IdRange range = IdRange.of(1L, maxProductId);
+
+        shardedJobRunner.run(JOB_NAME, SHARD_COUNT, LEASE_TTL, HOLD_FOR, (shard, shardCount, lease) -> {
+            IdRange shardRange = range.shard(shard, shardCount);
+
+            // reconcileReviewAggregate 는 (from, to] 구간
+            long toProductId = shardRange.getToId() - 1;
+
+            for (long fromProductId = shardRange.getFromId() - 1; fromProductId < toProductId; fromProductId += CHUNK_SIZE) {
+                //lease 를 잃으면 남은 구간은 다른 서버가 처리
+                if (!lease.isValid()) {
+                    return false;
+                }
+
+                productQueryRepository.reconcileReviewAggregate(fromProductId, Math.min(fromProductId + CHUNK_SIZE, toProductId));
+            }
+
+            return true;
+        });
+    }
+}
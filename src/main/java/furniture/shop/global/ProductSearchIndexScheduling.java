@@ -0,0 +1,34 @@
+package furniture.shop.global;
+
+import furniture.shop.product.ProductQueryRepository;
+import furniture.shop.product.ProductSearchIndex;
+import furniture.shop.product.dto.ProductKeywordDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexScheduling {
+    private final ProductQueryRepository productQueryRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    //기동 시 전체 색인, 이후 10분마다 전체 상품 재색인 (커밋 순서가 뒤바뀌어 누락된 상품 보정)
+    @Scheduled(fixedDelay = 600000)
+    @Transactional(readOnly = true)
+    public void run() {
+        for (ProductKeywordDto keyword : productQueryRepository.findProductKeywords(0L)) {
+            productSearchIndex.add(keyword.getId(), keyword.getProductCode(), keyword.getProductName());
+        }
+    }
+
+    //5초마다 색인된 마지막 ID 이후 상품 색인 (다른 서버에서 등록된 상품 반영, 검색 요청마다 조회하지 않도록)
+    @Scheduled(initialDelay = 5000, fixedDelay = 5000)
+    @Transactional(readOnly = true)
+    public void catchUp() {
+        for (ProductKeywordDto keyword : productQueryRepository.findProductKeywords(productSearchIndex.getLastProductId())) {
+            productSearchIndex.add(keyword.getId(), keyword.getProductCode(), keyword.getProductName());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package furniture.shop.global;
+
+import furniture.shop.product.ProductSellCountService;
+import furniture.shop.global.lease.ClusterJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProductSellCountScheduling {
+    private final ProductSellCountService productSellCountService;
+
+    //10초마다 쌓인 판매량 변경 기록을 상품 판매량에 반영
+    @ClusterJob("product-sell-count")
+    @Scheduled(fixedDelay = 10000)
+    public void run() {
+        productSellCountService.flush();
+    }
+}
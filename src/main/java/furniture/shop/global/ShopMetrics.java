@@ -0,0 +1,116 @@
+package furniture.shop.global;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문, 결제, 상품 조회 주요 구간 지표
+ * 타이머는 SLO 구간(histogram bucket)으로 기록하여 Prometheus 에서 구간별 비율과 백분위를 계산
+ * 결제는 전체 시간과 아임포트 호출 시간을 따로 기록 (DB 처리 시간 = 전체 - 아임포트)
+ */
+@Component
+public class ShopMetrics {
+
+    private static final Duration[] SLO = {
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(200), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5)
+    };
+
+    private final MeterRegistry meterRegistry;
+
+    // 이름 + 태그별 미터 (호출마다 builder 를 만들지 않도록 캐시)
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ShopMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 주문 생성 (type : single, cart), 현재 트랜잭션 커밋/롤백까지 측정
+    public void startCheckout(String type) {
+        timeTransaction("shop.checkout", "type", type);
+    }
+
+    // 결제 처리 전체 (operation : verify, cancel), 트랜잭션 밖의 아임포트 호출 포함
+    public void recordPayment(String operation, boolean success, long nanos) {
+        timer("shop.payment", "operation", operation, success).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 아임포트 API 호출 (operation : payment, cancel)
+    public void recordIamport(String operation, boolean success, long nanos) {
+        timer("shop.iamport", "operation", operation, success).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 상품 목록 조회 (mode : page, slice, scroll)
+    public void recordCatalogSearch(String mode, long nanos) {
+        timer("shop.catalog.search", "mode", mode, true).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 캐시 조회 결과 (cache : product_detail, product_count / result : local, redis, hit, miss)
+    public void cacheResult(String cache, String result) {
+        counters.computeIfAbsent("shop.cache:" + cache + ":" + result, key -> Counter.builder("shop.cache")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry)).increment();
+    }
+
+    // 재고 부족으로 예약 실패
+    public void stockConflict() {
+        counters.computeIfAbsent("shop.stock.conflict", key -> Counter.builder("shop.stock.conflict")
+                .register(meterRegistry)).increment();
+    }
+
+    // 결제되지 않은 주문 정리 (result : done, partial(시간 초과), skipped(다른 서버 실행 중), error)
+    public void recordOrderPurge(String result, int count, long nanos) {
+        timers.computeIfAbsent("shop.order.purge:" + result, key -> Timer.builder("shop.order.purge")
+                .tag("result", result)
+                .register(meterRegistry)).record(nanos, TimeUnit.NANOSECONDS);
+
+        if (count > 0) {
+            counters.computeIfAbsent("shop.order.purge.orders", key -> Counter.builder("shop.order.purge.orders")
+                    .register(meterRegistry)).increment(count);
+        }
+    }
+
+    // 주문 만료 예약 처리 (result : expired, skipped(이미 결제됨), error)
+    public void orderExpiry(String result) {
+        counters.computeIfAbsent("shop.order.expiry:" + result, key -> Counter.builder("shop.order.expiry")
+                .tag("result", result)
+                .register(meterRegistry)).increment();
+    }
+
+    // 커밋 시 flush 되는 insert/update 도 포함되도록 트랜잭션 완료 시점에 기록
+    private void timeTransaction(String name, String tagKey, String tagValue) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                timer(name, tagKey, tagValue, status == STATUS_COMMITTED).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private Timer timer(String name, String tagKey, String tagValue, boolean success) {
+        String outcome = success ? "success" : "error";
+
+        return timers.computeIfAbsent(name + ":" + tagValue + ":" + outcome, key -> Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .tag("outcome", outcome)
+                .serviceLevelObjectives(SLO)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,150 @@
+package furniture.shop.global;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시 타이머 휠
+ * 시간을 tick 단위 칸으로 나눈 원형 배열에 작업을 넣고, 전용 스레드가 tick 마다 현재 칸에서 만료된 작업만 실행
+ * 작업 추가/만료 확인이 O(1) 이므로 가까운 시각에 만료되는 많은 작업을 tick 오차 안에서 처리
+ * 한 바퀴(tick * 칸 수)보다 먼 작업은 남은 바퀴 수를 두고 칸을 지날 때마다 줄임
+ * 작업은 전달받은 executor 에서 실행하여 tick 이 밀리지 않도록 함
+ */
+@Slf4j
+public class TimerWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<Timeout>> buckets;
+
+    // 다른 스레드에서 추가한 작업 (tick 스레드가 칸으로 옮김)
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    private final ExecutorService executor;
+    private final Thread worker;
+    private final long startMillis;
+    private final AtomicInteger size = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    // tick 스레드에서만 사용
+    private long tick = 0L;
+
+    private static class Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private long rounds;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * @param name tick 스레드 이름
+     * @param tickMillis 칸 하나의 시간 (만료 시각 오차)
+     * @param wheelSize 칸 수
+     * @param executor 만료된 작업을 실행할 executor
+     */
+    public TimerWheel(String name, long tickMillis, int wheelSize, ExecutorService executor) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.executor = executor;
+
+        this.buckets = new ArrayList<>(wheelSize);
+
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+
+        this.startMillis = System.currentTimeMillis();
+
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * @param delayMillis 실행까지 남은 시간 (0 이하면 다음 tick 에 실행)
+     */
+    public void schedule(Runnable task, long delayMillis) {
+        pending.add(new Timeout(task, System.currentTimeMillis() + Math.max(delayMillis, 0L)));
+        size.incrementAndGet();
+    }
+
+    // 실행 대기 중인 작업 수
+    public int size() {
+        return size.get();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long sleepMillis = startMillis + (tick + 1) * tickMillis - System.currentTimeMillis();
+
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                }
+            }
+
+            transferPending();
+            expire(buckets.get((int) (tick % wheelSize)));
+
+            tick++;
+        }
+    }
+
+    // 현재 tick 이 끝나는 시각(start + (tick + 1) * tickMillis) 이후에 만료되도록 칸 결정
+    private void transferPending() {
+        Timeout timeout;
+
+        while ((timeout = pending.poll()) != null) {
+            long elapsed = timeout.deadline - startMillis;
+            long target = Math.max((elapsed + tickMillis - 1) / tickMillis - 1, tick);
+
+            timeout.rounds = (target - tick) / wheelSize;
+
+            buckets.get((int) (target % wheelSize)).add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+                continue;
+            }
+
+            iterator.remove();
+            size.decrementAndGet();
+
+            try {
+                executor.execute(timeout.task);
+            } catch (RejectedExecutionException e) {
+                log.warn(">>> 타이머 작업 실행 거부 : {} <<<", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package furniture.shop.global;
+
+import furniture.shop.configure.jwt.TokenDenylist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TokenDenylistScheduling {
+    private final TokenDenylist tokenDenylist;
+
+    //10초마다 로그아웃된 토큰 목록을 Redis 기준으로 동기화 (pub/sub 메시지 유실 보정)
+    @Scheduled(fixedDelay = 10000)
+    public void run() {
+        tokenDenylist.sync();
+    }
+}
@@ -0,0 +1,24 @@
+package furniture.shop.global.lease;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 서버 중 lease 를 얻은 한 서버에서만 실행하는 스케줄 작업
+ * 다른 서버가 실행 중이면 이번 주기는 실행하지 않음
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterJob {
+
+    // 작업 이름 (lease key)
+    String value();
+
+    // lease 유지 시간, 실행 중에는 자동 연장
+    long leaseMillis() default 60000L;
+
+    // 실행 후 lease 를 유지할 시간 (주기가 긴 작업을 다른 서버가 곧바로 다시 실행하지 않도록)
+    long holdMillis() default 0L;
+}
@@ -0,0 +1,44 @@
+package furniture.shop.global.lease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ClusterJobAspect {
+
+    private final LeaseManager leaseManager;
+
+    @Around("@annotation(clusterJob)")
+    public Object runWithLease(ProceedingJoinPoint joinPoint, ClusterJob clusterJob) throws Throwable {
+        Lease lease = leaseManager.acquire(clusterJob.value(), Duration.ofMillis(clusterJob.leaseMillis()));
+
+        //다른 서버에서 실행 중
+        if (lease == null) {
+            log.debug(">>> 다른 서버에서 실행 중인 작업 : {} <<<", clusterJob.value());
+
+            return null;
+        }
+
+        boolean success = false;
+
+        try {
+            Object result = joinPoint.proceed();
+
+            success = true;
+
+            return result;
+        } finally {
+            // 실패한 경우 다른 서버가 바로 다시 실행할 수 있도록 유지하지 않음
+            leaseManager.release(lease, success ? Duration.ofMillis(clusterJob.holdMillis()) : Duration.ZERO);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package furniture.shop.global.lease;
+
+import lombok.Getter;
+
+/**
+ * ID 구간 [fromId, toId)
+ * 큰 작업을 shard 수만큼 나누어 여러 서버에서 나누어 실행할 때 사용
+ */
+@Getter
+public class IdRange {
+
+    private final long fromId;
+
+    private final long toId;
+
+    private IdRange(long fromId, long toId) {
+        this.fromId = fromId;
+        this.toId = toId;
+    }
+
+    // minId 이상 maxId 이하
+    public static IdRange of(long minId, long maxId) {
+        return new IdRange(minId, maxId + 1);
+    }
+
+    public boolean isEmpty() {
+        return fromId >= toId;
+    }
+
+    /**
+     * 구간을 shardCount 개로 나눈 중 shard 번째 구간 (앞 구간부터 1씩 더 크게 나누어 빠지는 ID 가 없도록 함)
+     */
+    public IdRange shard(int shard, int shardCount) {
+        long size = toId - fromId;
+
+        long from = fromId + size * shard / shardCount;
+        long to = fromId + size * (shard + 1) / shardCount;
+
+        return new IdRange(from, to);
+    }
+}
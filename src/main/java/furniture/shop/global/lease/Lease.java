@@ -0,0 +1,45 @@
+package furniture.shop.global.lease;
+
+import lombok.Getter;
+
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 스케줄 작업 실행 권한
+ * fencingToken 은 같은 작업의 lease 를 얻을 때마다 증가하므로, 더 큰 token 을 가진 서버가 최신 실행자
+ * 연장에 실패하면(다른 서버가 lease 를 가져감) valid 가 false 가 되고, 작업은 다음 처리 단위 전에 중단해야 함
+ */
+@Getter
+public class Lease {
+
+    // Redis 장애로 잠금 없이 실행하는 경우의 token
+    public static final long LOCAL_FENCING_TOKEN = -1L;
+
+    private final String name;
+
+    private final String value;
+
+    private final long fencingToken;
+
+    private volatile boolean valid = true;
+
+    private volatile ScheduledFuture<?> renewal;
+
+    Lease(String name, String value, long fencingToken) {
+        this.name = name;
+        this.value = value;
+        this.fencingToken = fencingToken;
+    }
+
+    public boolean isLocal() {
+        return fencingToken == LOCAL_FENCING_TOKEN;
+    }
+
+    void lost() {
+        this.valid = false;
+    }
+
+    void setRenewal(ScheduledFuture<?> renewal) {
+        this.renewal = renewal;
+    }
+}
@@ -0,0 +1,171 @@
+package furniture.shop.global.lease;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 스케줄 작업 lease
+ * 작업별로 한 서버만 lease 를 얻고, 실행 중에는 유지 시간의 1/3 마다 연장
+ * 서버가 중단되면 연장되지 않아 유지 시간 후 다른 서버가 이어서 실행 (failover)
+ * Redis 장애 시에는 lease 없이 실행 (작업은 DB 행 잠금과 조건부 변경으로 중복 처리를 막아야 함)
+ */
+@Slf4j
+@Component
+public class LeaseManager {
+
+    private static final String KEY_PREFIX = "lease:";
+    private static final String FENCE_SUFFIX = ":fence";
+
+    private static final long REDIS_RETRY_MILLIS = 10000L;
+
+    // lease 가 없으면 fencing token 을 증가시키고 lease 저장, 있으면 0
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+                    "local fence = redis.call('incr', KEYS[2]) " +
+                    "redis.call('set', KEYS[1], ARGV[1] .. ':' .. fence, 'PX', ARGV[2]) " +
+                    "return fence", Long.class);
+
+    // 자신의 lease 인 경우에만 유지 시간 변경
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    // 자신의 lease 인 경우에만 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 서버 식별자 (pid@host)
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "lease-renewer");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    private volatile long redisRetryAt = 0L;
+
+    public LeaseManager(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * @param name 작업 이름
+     * @param ttl lease 유지 시간 (연장하지 못한 경우 이 시간 후 만료)
+     * @return lease, 다른 서버가 실행 중이면 null
+     */
+    public Lease acquire(String name, Duration ttl) {
+        if (System.currentTimeMillis() < redisRetryAt) {
+            return new Lease(name, null, Lease.LOCAL_FENCING_TOKEN);
+        }
+
+        String owner = nodeId + ":" + UUID.randomUUID();
+
+        Long fence;
+
+        try {
+            fence = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key(name), key(name) + FENCE_SUFFIX),
+                    owner, String.valueOf(ttl.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn(">>> lease Redis 오류, lease 없이 실행 : {}, {} <<<", name, e.getMessage());
+
+            redisRetryAt = System.currentTimeMillis() + REDIS_RETRY_MILLIS;
+
+            return new Lease(name, null, Lease.LOCAL_FENCING_TOKEN);
+        }
+
+        if (fence == null || fence == 0L) {
+            return null;
+        }
+
+        Lease lease = new Lease(name, owner + ":" + fence, fence);
+
+        long period = Math.max(ttl.toMillis() / 3, 1L);
+
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(lease, ttl), period, period, TimeUnit.MILLISECONDS);
+        lease.setRenewal(renewal);
+
+        return lease;
+    }
+
+    /**
+     * 작업이 끝나면 lease 삭제
+     */
+    public void release(Lease lease) {
+        release(lease, Duration.ZERO);
+    }
+
+    /**
+     * 작업이 끝나면 lease 반환
+     * @param holdFor 0 보다 크면 삭제하지 않고 이 시간 동안 유지하여, 같은 주기에 다른 서버가 다시 실행하지 않도록 함
+     */
+    public void release(Lease lease, Duration holdFor) {
+        if (lease.getRenewal() != null) {
+            lease.getRenewal().cancel(false);
+        }
+
+        if (lease.isLocal() || !lease.isValid()) {
+            return;
+        }
+
+        try {
+            if (holdFor.isZero() || holdFor.isNegative()) {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key(lease.getName())), lease.getValue());
+            } else {
+                redisTemplate.execute(RENEW_SCRIPT, List.of(key(lease.getName())), lease.getValue(), String.valueOf(holdFor.toMillis()));
+            }
+        } catch (DataAccessException e) {
+            // 반환하지 못해도 유지 시간이 지나면 만료됨
+            redisRetryAt = System.currentTimeMillis() + REDIS_RETRY_MILLIS;
+        }
+    }
+
+    void renew(Lease lease, Duration ttl) {
+        if (!lease.isValid()) {
+            return;
+        }
+
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key(lease.getName())), lease.getValue(), String.valueOf(ttl.toMillis()));
+
+            // 만료 후 다른 서버가 lease 를 가져간 경우
+            if (renewed == null || renewed == 0L) {
+                log.warn(">>> lease 연장 실패, 작업 중단 : {}, {} <<<", lease.getName(), lease.getFencingToken());
+
+                lease.lost();
+
+                if (lease.getRenewal() != null) {
+                    lease.getRenewal().cancel(false);
+                }
+            }
+        } catch (DataAccessException e) {
+            // 일시적인 오류일 수 있으므로 다음 연장 시 다시 확인 (유지 시간 안에 연장되지 않으면 다른 서버가 가져감)
+            log.warn(">>> lease 연장 중 Redis 오류 : {}, {} <<<", lease.getName(), e.getMessage());
+        }
+    }
+
+    private String key(String name) {
+        return KEY_PREFIX + name;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+}
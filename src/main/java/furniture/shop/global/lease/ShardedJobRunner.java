@@ -0,0 +1,67 @@
+package furniture.shop.global.lease;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 작업을 shard 로 나누어 shard 별 lease 를 얻은 서버에서 실행
+ * 여러 서버가 동시에 실행하면 서로 다른 shard 를 나누어 처리하고, 한 서버만 있으면 모든 shard 를 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class ShardedJobRunner {
+
+    private final LeaseManager leaseManager;
+
+    @FunctionalInterface
+    public interface ShardTask {
+
+        /**
+         * @return shard 처리를 마쳤으면 true, 시간 초과 등으로 남은 작업이 있으면 false
+         * false 이면 이 서버는 이후 shard 를 실행하지 않고, 남은 작업은 다른 서버나 다음 주기에 이어서 처리
+         */
+        boolean run(int shard, int shardCount, Lease lease);
+    }
+
+    /**
+     * @param name 작업 이름
+     * @param shardCount shard 수
+     * @param leaseTtl shard lease 유지 시간 (실행 중에는 자동 연장)
+     * @param holdFor 처리를 마친 shard 의 lease 를 유지할 시간 (같은 주기에 다른 서버가 다시 처리하지 않도록)
+     * @return 이 서버에서 실행한 shard 수
+     */
+    public int run(String name, int shardCount, Duration leaseTtl, Duration holdFor, ShardTask task) {
+        // 서버마다 다른 shard 부터 시도하여 동시에 실행될 때 고르게 나누어지도록 함
+        int offset = ThreadLocalRandom.current().nextInt(shardCount);
+        int executed = 0;
+
+        for (int i = 0; i < shardCount; i++) {
+            int shard = (offset + i) % shardCount;
+
+            Lease lease = leaseManager.acquire(name + ":" + shard, leaseTtl);
+
+            //다른 서버에서 처리 중이거나 이번 주기에 처리를 마친 shard
+            if (lease == null) {
+                continue;
+            }
+
+            boolean finished = false;
+
+            try {
+                finished = task.run(shard, shardCount, lease);
+                executed++;
+            } finally {
+                leaseManager.release(lease, finished ? holdFor : Duration.ZERO);
+            }
+
+            if (!finished) {
+                break;
+            }
+        }
+
+        return executed;
+    }
+}
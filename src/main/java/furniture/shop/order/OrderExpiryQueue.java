@@ -0,0 +1,124 @@
+package furniture.shop.order;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 만료 예약 (Redis sorted set, score = 만료 시각)
+ * 주문 생성이 커밋되면 만료 시각으로 추가하고, 만료가 가까운 주문을 꺼내 각 서버의 타이머에서 만료 처리
+ * 꺼내기는 조회와 삭제를 한 번에 하므로 여러 서버가 같은 주문을 중복으로 가져가지 않음
+ * Redis 장애 시 예약되지 않은 주문은 주기적인 만료 주문 정리(EmptyOrderScheduling)에서 처리
+ */
+@Slf4j
+@Component
+public class OrderExpiryQueue {
+
+    // 결제하지 않고 남겨둘 시간
+    public static final long EXPIRE_MILLIS = 30L * 60L * 1000L;
+
+    private static final String KEY = "orders:expiry";
+
+    private static final long REDIS_RETRY_MILLIS = 10000L;
+
+    // 만료 시각이 max 이하인 주문을 최대 ARGV[2] 건 꺼냄 (주문 ID, 만료 시각 순서)
+    private static final RedisScript<List> POP_DUE_SCRIPT = new DefaultRedisScript<>(
+            "local items = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[2]) " +
+                    "for i = 1, #items, 2 do redis.call('zrem', KEYS[1], items[i]) end " +
+                    "return items", List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private volatile long redisRetryAt = 0L;
+
+    public OrderExpiryQueue(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 주문 만료 예약, 트랜잭션 안이면 커밋 후 예약
+     */
+    public void schedule(Long ordersId) {
+        long deadline = System.currentTimeMillis() + EXPIRE_MILLIS;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(ordersId, deadline);
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(ordersId, deadline);
+            }
+        });
+    }
+
+    /**
+     * @param deadline 만료 시각 (epoch millis)
+     */
+    public void add(Long ordersId, long deadline) {
+        if (System.currentTimeMillis() < redisRetryAt) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForZSet().add(KEY, String.valueOf(ordersId), deadline);
+        } catch (DataAccessException e) {
+            log.warn(">>> 주문 만료 예약 Redis 오류 : {}, {} <<<", ordersId, e.getMessage());
+
+            redisRetryAt = System.currentTimeMillis() + REDIS_RETRY_MILLIS;
+        }
+    }
+
+    /**
+     * 만료 시각이 until 이전인 주문을 꺼냄
+     * @return 주문 ID, 만료 시각
+     */
+    public List<DueOrder> popDue(long until, int limit) {
+        if (System.currentTimeMillis() < redisRetryAt) {
+            return List.of();
+        }
+
+        List<?> items;
+
+        try {
+            items = redisTemplate.execute(POP_DUE_SCRIPT, List.of(KEY), String.valueOf(until), String.valueOf(limit));
+        } catch (DataAccessException e) {
+            log.warn(">>> 주문 만료 조회 Redis 오류 : {} <<<", e.getMessage());
+
+            redisRetryAt = System.currentTimeMillis() + REDIS_RETRY_MILLIS;
+
+            return List.of();
+        }
+
+        if (items == null || items.isEmpty()) {
+            return List.of();
+        }
+
+        List<DueOrder> dueOrders = new ArrayList<>(items.size() / 2);
+
+        for (int i = 0; i + 1 < items.size(); i += 2) {
+            try {
+                dueOrders.add(new DueOrder(Long.valueOf(String.valueOf(items.get(i))),
+                        (long) Double.parseDouble(String.valueOf(items.get(i + 1)))));
+            } catch (NumberFormatException e) {
+                log.warn(">>> 잘못된 주문 만료 예약 : {} <<<", items.get(i));
+            }
+        }
+
+        return dueOrders;
+    }
+
+    public record DueOrder(Long ordersId, long deadline) {
+    }
+}
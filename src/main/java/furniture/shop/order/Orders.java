@@ -8,7 +8,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Entity
 @Getter
@@ -16,7 +18,8 @@ import java.util.List;
 public class Orders extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -45,6 +48,10 @@ public class Orders extends BaseTimeEntity {
 
     private int mileage;
 
+    // 결제창에 전달한 가맹점 주문 번호 (웹훅이 이 주문의 결제인지 확인)
+    @Column(unique = true)
+    private String merchantUID;
+
     private void setMember(Member member) {
         this.member = member;
     }
@@ -65,6 +72,21 @@ public class Orders extends BaseTimeEntity {
         this.ordersStatus = ordersStatus;
     }
 
+    // 상품 ID 별 주문 수량 (재고 예약, 반환용)
+    public Map<Long, Integer> getProductCounts() {
+        Map<Long, Integer> counts = new HashMap<>();
+
+        for (OrdersProduct ordersProduct : ordersProducts) {
+            counts.merge(ordersProduct.getProduct().getId(), ordersProduct.getCount(), Integer::sum);
+        }
+
+        return counts;
+    }
+
+    public void issueMerchantUID(String merchantUID) {
+        this.merchantUID = merchantUID;
+    }
+
     public void editTotalPrice(int totalPrice) {
         this.totalPrice = totalPrice;
     }
@@ -1,11 +1,14 @@
 package furniture.shop.order;
 
 import furniture.shop.configure.response.ApiResponse;
+import furniture.shop.configure.response.CursorResponse;
 import furniture.shop.order.dto.OrderRequestDto;
 import furniture.shop.order.dto.OrderResponseDto;
 import furniture.shop.order.dto.OrderSingleRequestDto;
 import furniture.shop.order.dto.OrdersListResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -38,6 +41,25 @@ public class OrdersController {
         return ResponseEntity.ok(ApiResponse.res(HttpStatus.OK, "주문을 조회했습니다.", ordersList));
     }
 
+    @GetMapping("/orders/scroll")
+    @Operation(summary = "주문 커서 조회", description = "주문 조회 (커서 기반 다음 목록) API")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "주문을 조회했습니다.", content = @Content(mediaType = "application/json")),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 입력입니다.", content = @Content(mediaType = "application/json")),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "권한이 없습니다.", content = @Content(mediaType = "application/json")),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한이 없습니다.", content = @Content(mediaType = "application/json"))
+    })
+    @Parameters(value = {
+            @Parameter(name = "cursor", description = "이전 조회 결과의 nextCursor (첫 조회 시 생략)"),
+            @Parameter(name = "size", description = "조회 개수 (최대 100)", example = "10")
+    })
+    public ResponseEntity<ApiResponse<?>> getOrdersScroll(@RequestParam(value = "cursor", required = false) String cursor,
+                                                          @RequestParam(value = "size", required = false, defaultValue = "10") int size) {
+        CursorResponse<OrdersListResponseDto> ordersList = ordersService.getOrdersScroll(cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.res(HttpStatus.OK, "주문을 조회했습니다.", ordersList));
+    }
+
     @PostMapping("/product/{id}/orders")
     @Operation(summary = "상품 단건 주문", description = "상품 단건 주문 API")
     @ApiResponses(value = {
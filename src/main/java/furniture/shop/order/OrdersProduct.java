@@ -10,7 +10,8 @@ import lombok.*;
 public class OrdersProduct {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_product_seq")
+    @SequenceGenerator(name = "orders_product_seq", sequenceName = "orders_product_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
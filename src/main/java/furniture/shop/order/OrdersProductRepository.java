@@ -1,6 +1,15 @@
 package furniture.shop.order;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface OrdersProductRepository extends JpaRepository<OrdersProduct, Long> {
+
+    @Modifying
+    @Query("delete from OrdersProduct op where op.orders.id in :ordersIds")
+    int deleteByOrdersIds(@Param("ordersIds") List<Long> ordersIds);
 }
@@ -1,14 +1,20 @@
 package furniture.shop.order;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import furniture.shop.global.lease.IdRange;
 import furniture.shop.member.Member;
 import furniture.shop.member.QMember;
 import furniture.shop.order.contsant.OrdersStatus;
+import furniture.shop.order.dto.OrdersLineDto;
 import furniture.shop.order.dto.OrdersListResponseDto;
+import furniture.shop.order.dto.QOrdersLineDto;
 import furniture.shop.order.dto.QOrdersListResponseDto;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
@@ -18,6 +24,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static furniture.shop.order.QOrders.orders;
+import static furniture.shop.order.QOrdersProduct.ordersProduct;
 
 @Repository
 public class OrdersQueryRepository {
@@ -28,15 +35,58 @@ public class OrdersQueryRepository {
         this.jpaQueryFactory = jpaQueryFactory;
     }
 
-    public List<Orders> getEmptyOrders() {
-        List<Orders> content = jpaQueryFactory
-                .select(orders)
+    /**
+     * 결제되지 않은 주문의 ID 범위 (여러 서버가 나누어 처리할 구간 계산용)
+     * @return 없으면 null
+     */
+    public IdRange getEmptyOrderIdRange(LocalDateTime before) {
+        Tuple tuple = jpaQueryFactory
+                .select(orders.id.min(), orders.id.max())
                 .from(orders)
                 .where(orders.ordersStatus.eq(OrdersStatus.READY)
-                        .and(orders.registerDate.lt(LocalDateTime.now().minusMinutes(30))))
+                        .and(orders.registerDate.lt(before)))
+                .fetchOne();
+
+        if (tuple == null || tuple.get(orders.id.min()) == null) {
+            return null;
+        }
+
+        return IdRange.of(tuple.get(orders.id.min()), tuple.get(orders.id.max()));
+    }
+
+    /**
+     * 결제되지 않은 주문 ID 조회 (엔티티를 불러오지 않음)
+     * 결제 완료와 동시에 처리되지 않도록 주문 행을 잠그고, 잠금 순서를 맞추기 위해 ID 순으로 조회
+     * @param before 이 시각 이전에 생성된 주문
+     * @param range 주문 ID 구간
+     * @param limit 최대 건수
+     */
+    public List<Long> getEmptyOrderIds(LocalDateTime before, IdRange range, int limit) {
+        return jpaQueryFactory
+                .select(orders.id)
+                .from(orders)
+                .where(orders.ordersStatus.eq(OrdersStatus.READY)
+                        .and(orders.registerDate.lt(before))
+                        .and(orders.id.goe(range.getFromId()))
+                        .and(orders.id.lt(range.getToId())))
+                .orderBy(orders.id.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                 .fetch();
+    }
 
-        return content;
+    // 주문 상품 단위로 주문자, 상품, 수량 조회
+    public List<OrdersLineDto> getOrdersLines(List<Long> ordersIds) {
+        return jpaQueryFactory
+                .select(new QOrdersLineDto(
+                        orders.id,
+                        orders.member.id,
+                        ordersProduct.product.id,
+                        ordersProduct.count))
+                .from(orders)
+                .leftJoin(orders.ordersProducts, ordersProduct)
+                .where(orders.id.in(ordersIds))
+                .fetch();
     }
 
     public Page<OrdersListResponseDto> getOrderList(Member member, Pageable pageable) {
@@ -66,4 +116,37 @@ public class OrdersQueryRepository {
 
         return PageableExecutionUtils.getPage(content, pageable, () -> contentQuery.fetchOne());
     }
+
+    // 커서 기반 조회 : (주문 시각, 주문 ID) 역순으로 마지막 주문 이후부터 size + 1 건 조회
+    public List<OrdersListResponseDto> scrollOrderList(Member member, LocalDateTime lastRegisterDate, Long lastOrdersId, int size) {
+        return jpaQueryFactory
+                .select(new QOrdersListResponseDto(
+                        orders.id,
+                        orders.totalPrice,
+                        orders.ordersStatus,
+                        orders.registerDate,
+                        orders.updateDate,
+                        orders.address.zipCode,
+                        orders.address.city,
+                        orders.address.street,
+                        orders.receiver
+                ))
+                .from(orders)
+                .where(
+                        orders.member.id.eq(member.getId()),
+                        beforeCursor(lastRegisterDate, lastOrdersId)
+                )
+                .limit(size + 1)
+                .orderBy(new OrderSpecifier<>(Order.DESC, orders.registerDate), new OrderSpecifier<>(Order.DESC, orders.id))
+                .fetch();
+    }
+
+    private BooleanExpression beforeCursor(LocalDateTime lastRegisterDate, Long lastOrdersId) {
+        if (lastRegisterDate == null || lastOrdersId == null) {
+            return null;
+        }
+
+        return orders.registerDate.lt(lastRegisterDate)
+                .or(orders.registerDate.eq(lastRegisterDate).and(orders.id.lt(lastOrdersId)));
+    }
 }
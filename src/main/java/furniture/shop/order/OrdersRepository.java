@@ -1,9 +1,24 @@
 package furniture.shop.order;
 
+import furniture.shop.order.contsant.OrdersStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface OrdersRepository extends JpaRepository<Orders, Long> {
     List<Orders> findByMemberId(Long memberId);
+
+    boolean existsByIdAndOrdersStatusAndMerchantUID(Long id, OrdersStatus ordersStatus, String merchantUID);
+
+    // 현재 상태가 from 인 경우에만 변경 (결제 완료와 만료 취소가 동시에 일어나지 않도록)
+    @Modifying
+    @Query("update Orders o set o.ordersStatus = :to where o.id = :ordersId and o.ordersStatus = :from")
+    int updateOrdersStatus(@Param("ordersId") Long ordersId, @Param("from") OrdersStatus from, @Param("to") OrdersStatus to);
+
+    @Modifying
+    @Query("delete from Orders o where o.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
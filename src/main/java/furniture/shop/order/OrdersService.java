@@ -1,20 +1,32 @@
 package furniture.shop.order;
 
 import furniture.shop.cart.Cart;
+import furniture.shop.cart.CartProduct;
 import furniture.shop.cart.CartRepository;
+import furniture.shop.cart.CartWriteBehind;
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.configure.response.CursorResponse;
 import furniture.shop.credit.Credit;
 import furniture.shop.credit.CreditRepository;
+import furniture.shop.credit.MerchantUID;
+import furniture.shop.global.CursorUtil;
 import furniture.shop.global.MemberAuthorizationUtil;
+import furniture.shop.global.ShopMetrics;
+import furniture.shop.global.lease.IdRange;
 import furniture.shop.member.Member;
 import furniture.shop.order.contsant.OrdersStatus;
 import furniture.shop.order.dto.OrderProductResponseDto;
 import furniture.shop.order.dto.OrderResponseDto;
 import furniture.shop.order.dto.OrderSingleRequestDto;
+import furniture.shop.order.dto.OrdersLineDto;
 import furniture.shop.order.dto.OrdersListResponseDto;
+import furniture.shop.outbox.OutboxPublisher;
+import furniture.shop.outbox.event.OrderCancelled;
+import furniture.shop.outbox.event.OrderCreated;
 import furniture.shop.product.Product;
 import furniture.shop.product.ProductRepository;
+import furniture.shop.product.ProductStockService;
 import furniture.shop.product.constant.ProductStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,8 +34,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -36,9 +55,16 @@ public class OrdersService {
     private final CartRepository cartRepository;
     private final OrdersQueryRepository ordersQueryRepository;
     private final CreditRepository creditRepository;
+    private final ProductStockService productStockService;
+    private final ShopMetrics shopMetrics;
+    private final OutboxPublisher outboxPublisher;
+    private final OrderExpiryQueue orderExpiryQueue;
+    private final CartWriteBehind cartWriteBehind;
 
     @Transactional
     public void createSingleOrder(OrderSingleRequestDto ordersSingleDto) {
+        shopMetrics.startCheckout("single");
+
         Member member = memberAuthorizationUtil.getMember();
 
         Product product = productRepository.findById(ordersSingleDto.getProductId())
@@ -56,32 +82,53 @@ public class OrdersService {
 
         Orders orders = Orders.createOrders(member);
         ordersRepository.save(orders);
+        orders.issueMerchantUID(MerchantUID.create(orders.getId()));
 
         OrdersProduct ordersProduct = OrdersProduct.createOrdersProduct(orders, product, ordersSingleDto.getCount());
 
         //총 가격
         orders.editTotalPrice(ordersProduct.getTotalPrice());
+
+        //재고 예약 (행 잠금 시간을 줄이기 위해 마지막에 차감)
+        productStockService.reserve(orders.getProductCounts());
+
+        outboxPublisher.publish(OrderCreated.of(orders));
+
+        //결제 기한이 지나면 만료되도록 예약
+        orderExpiryQueue.schedule(orders.getId());
     }
 
     @Transactional
     public void createCartOrder() {
+        shopMetrics.startCheckout("cart");
+
         Member member = memberAuthorizationUtil.getMember();
 
+        //Redis 장바구니를 먼저 DB 에 반영
+        cartWriteBehind.flush(member.getId());
+
         Cart cart = cartRepository.findByMemberId(member.getId());
 
         if (cart == null || cart.getCartProductList().isEmpty()) {
             throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
         }
 
-        Orders orders = Orders.createOrders(member);
-        ordersRepository.save(orders);
+        //장바구니 상품을 IN 쿼리 한 번으로 조회
+        List<Long> productIds = cart.getCartProductList().stream()
+                .map(cartProduct -> cartProduct.getProduct().getId())
+                .distinct()
+                .toList();
 
-        List<OrdersProduct> ordersProducts = new ArrayList<>();
-        int sumPrice = 0;
+        Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        //상품 상태 및 재고는 메모리에서 검증
+        for (CartProduct cartProduct : cart.getCartProductList()) {
+            Product product = productMap.get(cartProduct.getProduct().getId());
 
-        for (int i = 0; i < cart.getCartProductList().size(); i++) {
-            Product product = productRepository.findById(cart.getCartProductList().get(i).getProduct().getId())
-                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_VALID_ERROR));
+            if (product == null) {
+                throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+            }
 
             //상품이 판매중이 아니면 throw
             if (product.getProductStatus() != ProductStatus.SELLING) {
@@ -89,21 +136,108 @@ public class OrdersService {
             }
 
             //재고보다 주문 수량이 크면 throw
-            if (product.getStock() < cart.getCartProductList().get(i).getCount()) {
+            if (product.getStock() < cartProduct.getCount()) {
                 throw new CustomException(CustomExceptionCode.NOT_ENOUGH_PRODUCT_EXCEPTION);
             }
+        }
 
-            OrdersProduct ordersProduct = OrdersProduct.createOrdersProduct(orders, product, cart.getCartProductList().get(i).getCount());
+        Orders orders = Orders.createOrders(member);
+        ordersRepository.save(orders);
+        orders.issueMerchantUID(MerchantUID.create(orders.getId()));
 
-            ordersProducts.add(ordersProduct);
+        int sumPrice = 0;
+
+        for (CartProduct cartProduct : cart.getCartProductList()) {
+            Product product = productMap.get(cartProduct.getProduct().getId());
+
+            OrdersProduct ordersProduct = OrdersProduct.createOrdersProduct(orders, product, cartProduct.getCount());
 
             sumPrice += ordersProduct.getTotalPrice();
         }
 
         orders.editTotalPrice(sumPrice);
 
-        //장바구니 비우기
+        //장바구니 비우기 (Redis 장바구니는 커밋 후 삭제)
         cart.resetCart();
+        cart.increaseRevision();
+        cartWriteBehind.evictAfterCommit(member.getId());
+
+        //재고 예약 (행 잠금 시간을 줄이기 위해 마지막에 상품 id 순서로 차감)
+        productStockService.reserve(orders.getProductCounts());
+
+        outboxPublisher.publish(OrderCreated.of(orders));
+
+        //결제 기한이 지나면 만료되도록 예약
+        orderExpiryQueue.schedule(orders.getId());
+    }
+
+    /**
+     * 결제되지 않은 주문 만료
+     * 결제 완료와 동시에 처리되지 않도록 주문 준비 상태인 경우에만 취소 후 예약 재고 반환 및 삭제
+     * @return 만료 처리한 경우 true, 이미 결제되었거나 없는 주문이면 false
+     */
+    @Transactional
+    public boolean expireOrder(Long ordersId) {
+        if (ordersRepository.updateOrdersStatus(ordersId, OrdersStatus.READY, OrdersStatus.CANCEL) == 0) {
+            return false;
+        }
+
+        Orders orders = ordersRepository.findById(ordersId).orElse(null);
+
+        if (orders == null) {
+            return false;
+        }
+
+        productStockService.release(orders.getProductCounts());
+
+        outboxPublisher.publish(OrderCancelled.of(orders, OrderCancelled.Reason.EXPIRED));
+
+        ordersRepository.delete(orders);
+
+        return true;
+    }
+
+    /**
+     * 결제되지 않은 주문 일괄 만료
+     * 주문 ID 만 잠금 조회 후 예약 재고를 상품별로 합산하여 반환하고, 주문 상품 -> 주문 순서로 일괄 삭제
+     * 잠긴 주문은 결제 완료 처리가 끝날 때까지 기다리고, 삭제 후에는 결제 완료 처리가 실패함
+     * @param before 이 시각 이전에 생성된 주문
+     * @param range 처리할 주문 ID 구간
+     * @param limit 한 번에 처리할 최대 주문 수
+     * @return 만료된 주문 수
+     */
+    @Transactional
+    public int purgeEmptyOrders(LocalDateTime before, IdRange range, int limit) {
+        List<Long> ordersIds = ordersQueryRepository.getEmptyOrderIds(before, range, limit);
+
+        if (ordersIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> memberIds = new LinkedHashMap<>();
+        Map<Long, Map<Long, Integer>> productCounts = new HashMap<>();
+        Map<Long, Integer> stockCounts = new HashMap<>();
+
+        for (OrdersLineDto line : ordersQueryRepository.getOrdersLines(ordersIds)) {
+            memberIds.put(line.getOrdersId(), line.getMemberId());
+
+            if (line.getProductId() != null) {
+                productCounts.computeIfAbsent(line.getOrdersId(), id -> new HashMap<>()).merge(line.getProductId(), line.getCount(), Integer::sum);
+                stockCounts.merge(line.getProductId(), line.getCount(), Integer::sum);
+            }
+        }
+
+        productStockService.release(stockCounts);
+
+        for (Map.Entry<Long, Long> entry : memberIds.entrySet()) {
+            outboxPublisher.publish(new OrderCancelled(entry.getKey(), entry.getValue(), OrderCancelled.Reason.EXPIRED,
+                    productCounts.getOrDefault(entry.getKey(), Map.of())));
+        }
+
+        ordersProductRepository.deleteByOrdersIds(ordersIds);
+        ordersRepository.deleteByIds(ordersIds);
+
+        return ordersIds.size();
     }
 
     @Transactional
@@ -115,6 +249,38 @@ public class OrdersService {
         return orderList;
     }
 
+    @Transactional(readOnly = true)
+    public CursorResponse<OrdersListResponseDto> getOrdersScroll(String cursor, int size) {
+        Member member = memberAuthorizationUtil.getMember();
+
+        CursorUtil.checkSize(size);
+
+        String[] keys = CursorUtil.decode(cursor, 2);
+        LocalDateTime lastRegisterDate = null;
+        Long lastOrdersId = null;
+
+        if (keys != null) {
+            try {
+                lastRegisterDate = LocalDateTime.parse(keys[0]);
+                lastOrdersId = Long.valueOf(keys[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+            }
+        }
+
+        List<OrdersListResponseDto> content = ordersQueryRepository.scrollOrderList(member, lastRegisterDate, lastOrdersId, size);
+
+        // size + 1 건이 조회되면 다음 목록이 있음
+        if (content.size() > size) {
+            content = content.subList(0, size);
+            OrdersListResponseDto last = content.get(size - 1);
+
+            return new CursorResponse<>(content, CursorUtil.encode(last.getCreatedOrderTime(), last.getOrderId()));
+        }
+
+        return new CursorResponse<>(content, null);
+    }
+
     @Transactional(readOnly = true)
     public void isRightOrder(Long orderId) {
         Member member = memberAuthorizationUtil.getMember();
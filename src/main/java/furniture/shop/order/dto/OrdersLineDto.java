@@ -0,0 +1,27 @@
+package furniture.shop.order.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+/**
+ * 주문 상품 단위 조회 결과 (엔티티를 불러오지 않고 주문 만료 처리에 필요한 값만 조회)
+ */
+@Getter
+public class OrdersLineDto {
+
+    private final Long ordersId;
+
+    private final Long memberId;
+
+    private final Long productId; //주문 상품이 없으면 null
+
+    private final int count;
+
+    @QueryProjection
+    public OrdersLineDto(Long ordersId, Long memberId, Long productId, Integer count) {
+        this.ordersId = ordersId;
+        this.memberId = memberId;
+        this.productId = productId;
+        this.count = count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,50 @@
+package furniture.shop.outbox;
+
+import furniture.shop.outbox.constant.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발행 대기 중인 도메인 이벤트
+ * 상태 변경과 같은 트랜잭션에서 저장되고, 발행 후 publishedAt 기록 (일정 시간 후 삭제)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_outbox_event_published", columnList = "publishedAt, id"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxEventType eventType;
+
+    private Long aggregateId; //주문 ID
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; //이벤트 내용 (JSON)
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt; //발생 시각
+
+    private LocalDateTime publishedAt; //발행 시각
+
+    public static OutboxEvent createOutboxEvent(OutboxEventType eventType, Long aggregateId, String payload) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+
+        outboxEvent.eventType = eventType;
+        outboxEvent.aggregateId = aggregateId;
+        outboxEvent.payload = payload;
+        outboxEvent.occurredAt = LocalDateTime.now();
+
+        return outboxEvent;
+    }
+}
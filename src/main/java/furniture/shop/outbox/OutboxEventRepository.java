@@ -0,0 +1,26 @@
+package furniture.shop.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 발행은 lease 를 얻은 한 서버에서만 실행하므로 잠금 없이 조회
+    // ID 는 서버마다 미리 할당받은 구간에서 발급되므로 ID 순서가 커밋(발생) 순서와 같지 않음
+    @Query("select e from OutboxEvent e where e.publishedAt is null order by e.id asc")
+    List<OutboxEvent> findForRelay(Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,34 @@
+package furniture.shop.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import furniture.shop.outbox.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트를 outbox 에 기록
+ * 상태 변경과 함께 커밋/롤백되도록 호출하는 쪽의 트랜잭션 안에서만 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        String payload;
+
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화 실패 : " + event.getEventType(), e);
+        }
+
+        outboxEventRepository.save(OutboxEvent.createOutboxEvent(event.getEventType(), event.getAggregateId(), payload));
+    }
+}
@@ -0,0 +1,81 @@
+package furniture.shop.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * outbox 이벤트 발행
+ * 발행되지 않은 이벤트를 ID 순으로 가져와 발행하고, 실패하면 그 이벤트부터 다음 주기에 다시 발행
+ * ID 순서는 발생 순서를 보장하지 않으므로 (서버마다 ID 구간을 미리 할당) 구독 측은 occurredAt, 이벤트 ID 로 순서, 중복을 판단
+ * 발행 대상 장애 시에는 잠시 발행하지 않음 (이벤트는 DB 에 남아 있으므로 유실되지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    // 한 번에 발행할 최대 이벤트 수
+    private static final int RELAY_SIZE = 100;
+
+    // 발행된 이벤트 보관 기간
+    private static final long RETENTION_DAYS = 1L;
+
+    private static final long SINK_RETRY_MILLIS = 10000L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+
+    private volatile long sinkRetryAt = 0L;
+
+    /**
+     * @return 발행한 이벤트 수
+     */
+    @Transactional
+    public int relay() {
+        if (System.currentTimeMillis() < sinkRetryAt) {
+            return 0;
+        }
+
+        List<OutboxEvent> events = outboxEventRepository.findForRelay(PageRequest.of(0, RELAY_SIZE));
+
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> publishedIds = new ArrayList<>();
+
+        for (OutboxEvent event : events) {
+            try {
+                outboxSink.publish(event);
+            } catch (RuntimeException e) {
+                log.warn(">>> outbox 이벤트 발행 실패 : {}, {} <<<", event.getId(), e.getMessage());
+
+                sinkRetryAt = System.currentTimeMillis() + SINK_RETRY_MILLIS;
+                break;
+            }
+
+            publishedIds.add(event.getId());
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.markPublished(publishedIds, LocalDateTime.now());
+        }
+
+        return publishedIds.size();
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Transactional
+    public int purge() {
+        return outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusDays(RETENTION_DAYS));
+    }
+}
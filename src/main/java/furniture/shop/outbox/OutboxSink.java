@@ -0,0 +1,13 @@
+package furniture.shop.outbox;
+
+/**
+ * outbox 이벤트 발행 대상
+ * 다른 메시지 브로커를 사용하려면 구현체를 교체
+ */
+public interface OutboxSink {
+
+    /**
+     * 실패 시 예외를 던지면 해당 이벤트부터 다음 주기에 다시 발행
+     */
+    void publish(OutboxEvent event);
+}
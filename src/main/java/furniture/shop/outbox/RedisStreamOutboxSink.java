@@ -0,0 +1,45 @@
+package furniture.shop.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * outbox 이벤트를 Redis Stream 에 추가
+ * 소비하는 쪽은 consumer group 으로 읽고, id 로 중복 수신을 걸러냄 (최소 한 번 발행)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisStreamOutboxSink implements OutboxSink {
+
+    private static final String STREAM_KEY = "outbox:events";
+
+    // 스트림 최대 길이 (근사치로 오래된 것부터 삭제)
+    private static final long MAX_LENGTH = 100000L;
+
+    private static final long TRIM_INTERVAL = 1000L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void publish(OutboxEvent event) {
+        Map<String, String> fields = new LinkedHashMap<>();
+
+        fields.put("id", String.valueOf(event.getId()));
+        fields.put("type", event.getEventType().name());
+        fields.put("aggregateId", String.valueOf(event.getAggregateId()));
+        fields.put("occurredAt", event.getOccurredAt().toString());
+        fields.put("payload", event.getPayload());
+
+        redisTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(STREAM_KEY));
+
+        // 매번 자르지 않고 일정 건수마다 근사치로 자름
+        if (event.getId() != null && event.getId() % TRIM_INTERVAL == 0) {
+            redisTemplate.opsForStream().trim(STREAM_KEY, MAX_LENGTH, true);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package furniture.shop.outbox.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum OutboxEventType {
+
+    ORDER_CREATED("주문생성"),
+    PAYMENT_COMPLETED("결제완료"),
+    ORDER_CANCELLED("주문취소"),
+    PAYMENT_REFUND_REQUIRED("환불필요")
+    ;
+
+    @Getter
+    private final String korean;
+}
@@ -0,0 +1,17 @@
+package furniture.shop.outbox.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import furniture.shop.outbox.constant.OutboxEventType;
+
+/**
+ * outbox 에 기록할 도메인 이벤트
+ * 이벤트 종류와 대상 ID 를 제외한 필드는 JSON 으로 저장
+ */
+public interface DomainEvent {
+
+    @JsonIgnore
+    OutboxEventType getEventType();
+
+    @JsonIgnore
+    Long getAggregateId();
+}
@@ -0,0 +1,40 @@
+package furniture.shop.outbox.event;
+
+import furniture.shop.order.Orders;
+import furniture.shop.outbox.constant.OutboxEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class OrderCancelled implements DomainEvent {
+
+    public enum Reason {
+        REFUND, EXPIRED
+    }
+
+    private Long orderId;
+
+    private Long memberId;
+
+    private Reason reason;
+
+    // 상품 ID, 반환된 재고 수량
+    private Map<Long, Integer> productCounts;
+
+    public static OrderCancelled of(Orders orders, Reason reason) {
+        return new OrderCancelled(orders.getId(), orders.getMember().getId(), reason, orders.getProductCounts());
+    }
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.ORDER_CANCELLED;
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return orderId;
+    }
+}
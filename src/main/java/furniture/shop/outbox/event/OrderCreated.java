@@ -0,0 +1,36 @@
+package furniture.shop.outbox.event;
+
+import furniture.shop.order.Orders;
+import furniture.shop.outbox.constant.OutboxEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class OrderCreated implements DomainEvent {
+
+    private Long orderId;
+
+    private Long memberId;
+
+    private int totalPrice;
+
+    // 상품 ID, 주문 수량
+    private Map<Long, Integer> productCounts;
+
+    public static OrderCreated of(Orders orders) {
+        return new OrderCreated(orders.getId(), orders.getMember().getId(), orders.getTotalPrice(), orders.getProductCounts());
+    }
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.ORDER_CREATED;
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return orderId;
+    }
+}
@@ -0,0 +1,39 @@
+package furniture.shop.outbox.event;
+
+import furniture.shop.credit.Credit;
+import furniture.shop.order.Orders;
+import furniture.shop.outbox.constant.OutboxEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class PaymentCompleted implements DomainEvent {
+
+    private Long orderId;
+
+    private Long memberId;
+
+    private String impUID;
+
+    private int amount;
+
+    // 상품 ID, 판매 수량
+    private Map<Long, Integer> productCounts;
+
+    public static PaymentCompleted of(Orders orders, Credit credit) {
+        return new PaymentCompleted(orders.getId(), orders.getMember().getId(), credit.getImpUID(), credit.getAmount(), orders.getProductCounts());
+    }
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.PAYMENT_COMPLETED;
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return orderId;
+    }
+}
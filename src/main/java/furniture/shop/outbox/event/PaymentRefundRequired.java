@@ -0,0 +1,34 @@
+package furniture.shop.outbox.event;
+
+import furniture.shop.outbox.constant.OutboxEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 취소된 주문에 결제가 완료되었지만 아임포트 환불에 실패한 경우 (따로 환불 처리 필요)
+ * 같은 결제로 여러 번 기록될 수 있으므로 결제 고유번호 기준으로 처리
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentRefundRequired implements DomainEvent {
+
+    private Long orderId;
+
+    private String impUID;
+
+    private int amount;
+
+    public static PaymentRefundRequired of(Long orderId, String impUID, int amount) {
+        return new PaymentRefundRequired(orderId, impUID, amount);
+    }
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.PAYMENT_REFUND_REQUIRED;
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return orderId;
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +20,7 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @DynamicInsert
+@DynamicUpdate
 public class Product extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -54,6 +56,13 @@ public class Product extends BaseTimeEntity {
     @ColumnDefault("0")
     private Long sellingCount;
 
+    // 리뷰 개수, 별점 합계 (목록/상세 조회 시 리뷰 집계 대신 사용)
+    @ColumnDefault("0")
+    private long reviewCount;
+
+    @ColumnDefault("0")
+    private double reviewRateSum;
+
     @OneToMany(mappedBy = "product", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval = true)
     @Builder.Default
     private List<Review> reviews = new ArrayList<>();
@@ -62,6 +71,19 @@ public class Product extends BaseTimeEntity {
         this.productStatus = productStatus;
     }
 
+    // 리뷰 개수, 별점 합계는 ProductRepository 의 update 쿼리로 변경 (동시 등록 시 갱신 누락 방지)
+    public boolean removeReview(Review review) {
+        return this.reviews.remove(review);
+    }
+
+    public double getAverageRate() {
+        if (this.reviewCount <= 0) {
+            return 0;
+        }
+
+        return this.reviewRateSum / this.reviewCount;
+    }
+
     public void addSellCount(int count) {
         this.sellingCount += count;
     }
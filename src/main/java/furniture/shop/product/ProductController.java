@@ -1,6 +1,7 @@
 package furniture.shop.product;
 
 import furniture.shop.configure.response.ApiResponse;
+import furniture.shop.configure.response.CursorResponse;
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
 import furniture.shop.product.dto.*;
@@ -13,8 +14,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.EnumUtils;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,30 +34,45 @@ public class ProductController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "상품을 조회했습니다.", content = @Content(mediaType = "application/json")),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 입력입니다.", content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<ApiResponse<Page<ProductListDto>>> getProductList(
+    @Parameter(name = "withTotal", description = "전체 개수 조회 여부 (false 면 다음 페이지 여부만 조회)", example = "true")
+    public ResponseEntity<ApiResponse<Slice<ProductListDto>>> getProductList(
             @RequestParam(value = "productCode"    , required = false, defaultValue = "") String productCode,
             @RequestParam(value = "productName"    , required = false, defaultValue = "") String productName,
             @RequestParam(value = "productCategory", required = false, defaultValue = "") String productCategory,
             @RequestParam(value = "productStatus"  , required = false, defaultValue = "") String productStatus,
+            @RequestParam(value = "withTotal"      , required = false, defaultValue = "true") boolean withTotal,
             @PageableDefault(size = 10, page = 0) Pageable pageable) {
 
-        ProductSearchCondition condition = new ProductSearchCondition();
-        condition.setProductCode(productCode);
-        condition.setProductName(productName);
+        ProductSearchCondition condition = getSearchCondition(productCode, productName, productCategory, productStatus);
 
-        if (EnumUtils.isValidEnum(ProductCategory.class, productCategory.toUpperCase())) {
-            condition.setProductCategory(ProductCategory.valueOf(productCategory));
-        } else {
-            condition.setProductCategory(null);
-        }
+        Slice<ProductListDto> productList = withTotal
+                ? productService.getProductList(condition, pageable)
+                : productService.getProductSlice(condition, pageable);
 
-        if (EnumUtils.isValidEnum(ProductStatus.class, productStatus.toUpperCase())) {
-            condition.setProductStatus(ProductStatus.valueOf(productStatus));
-        } else {
-            condition.setProductStatus(null);
-        }
+        return ResponseEntity.ok(ApiResponse.res(HttpStatus.OK, "상품을 조회했습니다.", productList));
+    }
+
+    @GetMapping("/product/scroll")
+    @Operation(summary = "상품 커서 조회", description = "상품 조회 (조건 가능, 커서 기반 다음 목록) API")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "상품을 조회했습니다.", content = @Content(mediaType = "application/json")),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 입력입니다.", content = @Content(mediaType = "application/json"))
+    })
+    @Parameters(value = {
+            @Parameter(name = "cursor", description = "이전 조회 결과의 nextCursor (첫 조회 시 생략)"),
+            @Parameter(name = "size", description = "조회 개수 (최대 100)", example = "10")
+    })
+    public ResponseEntity<ApiResponse<CursorResponse<ProductListDto>>> getProductScroll(
+            @RequestParam(value = "productCode"    , required = false, defaultValue = "") String productCode,
+            @RequestParam(value = "productName"    , required = false, defaultValue = "") String productName,
+            @RequestParam(value = "productCategory", required = false, defaultValue = "") String productCategory,
+            @RequestParam(value = "productStatus"  , required = false, defaultValue = "") String productStatus,
+            @RequestParam(value = "cursor"         , required = false) String cursor,
+            @RequestParam(value = "size"           , required = false, defaultValue = "10") int size) {
+
+        ProductSearchCondition condition = getSearchCondition(productCode, productName, productCategory, productStatus);
 
-        Page<ProductListDto> productList = productService.getProductList(condition, pageable);
+        CursorResponse<ProductListDto> productList = productService.getProductScroll(condition, cursor, size);
 
         return ResponseEntity.ok(ApiResponse.res(HttpStatus.OK, "상품을 조회했습니다.", productList));
     }
@@ -123,5 +139,24 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.res(HttpStatus.OK, "상품을 수정했습니다.", productDetailDto));
     }
 
+    private ProductSearchCondition getSearchCondition(String productCode, String productName, String productCategory, String productStatus) {
+        ProductSearchCondition condition = new ProductSearchCondition();
+        condition.setProductCode(productCode);
+        condition.setProductName(productName);
+
+        if (EnumUtils.isValidEnum(ProductCategory.class, productCategory.toUpperCase())) {
+            condition.setProductCategory(ProductCategory.valueOf(productCategory));
+        } else {
+            condition.setProductCategory(null);
+        }
+
+        if (EnumUtils.isValidEnum(ProductStatus.class, productStatus.toUpperCase())) {
+            condition.setProductStatus(ProductStatus.valueOf(productStatus));
+        } else {
+            condition.setProductStatus(null);
+        }
+
+        return condition;
+    }
 
 }
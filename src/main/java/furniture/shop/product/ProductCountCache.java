@@ -0,0 +1,146 @@
+package furniture.shop.product;
+
+import furniture.shop.product.constant.ProductCategory;
+import furniture.shop.product.constant.ProductStatus;
+import furniture.shop.product.dto.ProductCountDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 목록 전체 개수 캐시
+ * 카테고리, 상태별 개수는 상품 등록/상태 변경 커밋 후 증감하고 주기적으로 DB 기준으로 다시 맞춘다.
+ * 상품코드, 상품명 검색 개수는 짧은 시간 동안만 캐시 (근사값)
+ */
+@Component
+public class ProductCountCache {
+
+    // 검색어 개수 캐시 유지 시간, 최대 개수
+    private static final long KEYWORD_TTL_MILLIS = 30000L;
+    private static final int MAX_KEYWORD_SIZE = 1000;
+
+    private final Map<Bucket, AtomicLong> bucketCounts = new ConcurrentHashMap<>();
+    private final Map<KeywordKey, KeywordCount> keywordCounts = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded = false;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // DB 에서 조회한 카테고리, 상태별 개수로 교체
+    public void reload(List<ProductCountDto> counts) {
+        Map<Bucket, Long> fresh = new ConcurrentHashMap<>();
+
+        for (ProductCountDto count : counts) {
+            fresh.merge(new Bucket(count.getProductCategory(), count.getProductStatus()), count.getCount(), Long::sum);
+        }
+
+        bucketCounts.keySet().retainAll(fresh.keySet());
+        fresh.forEach((key, value) -> bucketCounts.computeIfAbsent(key, k -> new AtomicLong()).set(value));
+
+        loaded = true;
+    }
+
+    /**
+     * 카테고리, 상태 조건에 해당하는 상품 개수
+     * @param productCategory null 이면 전체 카테고리
+     * @param productStatus null 이면 전체 상태
+     */
+    public long getCount(ProductCategory productCategory, ProductStatus productStatus) {
+        long total = 0L;
+
+        for (Map.Entry<Bucket, AtomicLong> entry : bucketCounts.entrySet()) {
+            Bucket bucket = entry.getKey();
+
+            if (productCategory != null && productCategory != bucket.productCategory()) {
+                continue;
+            }
+
+            if (productStatus != null && productStatus != bucket.productStatus()) {
+                continue;
+            }
+
+            total += entry.getValue().get();
+        }
+
+        return total;
+    }
+
+    // 만료되었거나 없으면 null
+    public Long getKeywordCount(KeywordKey key) {
+        KeywordCount keywordCount = keywordCounts.get(key);
+
+        if (keywordCount == null || keywordCount.expireAt < System.currentTimeMillis()) {
+            return null;
+        }
+
+        return keywordCount.count;
+    }
+
+    public void putKeywordCount(KeywordKey key, long count) {
+        if (keywordCounts.size() >= MAX_KEYWORD_SIZE) {
+            keywordCounts.clear();
+        }
+
+        keywordCounts.put(key, new KeywordCount(count, System.currentTimeMillis() + KEYWORD_TTL_MILLIS));
+    }
+
+    // 상품 등록 (커밋 후 반영)
+    public void increase(ProductCategory productCategory, ProductStatus productStatus) {
+        afterCommit(() -> add(productCategory, productStatus, 1L));
+    }
+
+    // 상품 상태 변경 (커밋 후 반영)
+    public void move(ProductCategory productCategory, ProductStatus from, ProductStatus to) {
+        if (from == to) {
+            return;
+        }
+
+        afterCommit(() -> {
+            add(productCategory, from, -1L);
+            add(productCategory, to, 1L);
+        });
+    }
+
+    private void add(ProductCategory productCategory, ProductStatus productStatus, long delta) {
+        keywordCounts.clear();
+
+        // 아직 적재 전이면 적재 시 DB 에서 조회하므로 반영 X
+        if (!loaded) {
+            return;
+        }
+
+        bucketCounts.computeIfAbsent(new Bucket(productCategory, productStatus), key -> new AtomicLong()).addAndGet(delta);
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 상태가 없는 상품도 있으므로 null 허용
+    private record Bucket(ProductCategory productCategory, ProductStatus productStatus) {
+    }
+
+    private record KeywordCount(long count, long expireAt) {
+    }
+
+    // 검색어를 문자열로 이어 붙이지 않고 조건별로 비교 (구분자가 포함된 검색어끼리 같은 키가 되지 않도록)
+    public record KeywordKey(String productCode, String productName, ProductCategory productCategory, ProductStatus productStatus) {
+    }
+}
@@ -0,0 +1,250 @@
+package furniture.shop.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import furniture.shop.global.ShopMetrics;
+import furniture.shop.product.dto.ProductDetailDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 2단계 캐시
+ * 1차 : 서버 로컬 Caffeine (개수 제한, 짧은 만료)
+ * 2차 : Redis (서버 간 공유)
+ * 상품 변경 커밋 후 Redis 키 삭제 및 pub/sub 으로 모든 서버의 로컬 캐시 삭제
+ * 삭제마다 버전을 올리고, DB 조회 전에 읽은 버전이 그대로일 때만 Redis 에 저장 (변경 전에 조회한 값이 삭제 후 저장되지 않도록)
+ * Redis 장애 시 로컬 캐시와 DB 로만 동작
+ */
+@Slf4j
+@Component
+public class ProductDetailCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "product:detail:";
+    private static final String VERSION_KEY_PREFIX = "product:detail:version:";
+    private static final ChannelTopic EVICT_TOPIC = new ChannelTopic("product:detail:evict");
+
+    private static final long LOCAL_MAX_SIZE = 10000L;
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(1);
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+
+    // Redis 오류 후 다시 시도하기까지 대기 시간
+    private static final long REDIS_RETRY_MILLIS = 10000L;
+
+    // 버전이 ARGV[1] 과 같을 때만 저장, 버전 키가 없으면 0 (ARGV : 버전, 값, 유지 시간)
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+                    "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "return 1", Long.class);
+
+    // 캐시 삭제 후 버전 증가 (ARGV : 버전 유지 시간)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('del', KEYS[1]) " +
+                    "local version = redis.call('incr', KEYS[2]) " +
+                    "redis.call('pexpire', KEYS[2], ARGV[1]) " +
+                    "return version", Long.class);
+
+    private final Cache<Long, ProductDetailDto> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAX_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ShopMetrics shopMetrics;
+
+    private volatile long redisRetryAt = 0L;
+
+    // 컨테이너는 다른 구독(로그아웃 메시지 등)과 공유하므로 이 채널의 구독 여부를 따로 관리
+    private volatile boolean subscribed = false;
+
+    public ProductDetailCache(RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer redisMessageListenerContainer,
+                              ObjectMapper objectMapper,
+                              ShopMetrics shopMetrics) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.shopMetrics = shopMetrics;
+    }
+
+    public ProductDetailDto get(Long productId, Function<Long, ProductDetailDto> loader) {
+        ProductDetailDto productDetailDto = localCache.getIfPresent(productId);
+
+        if (productDetailDto != null) {
+            shopMetrics.cacheResult("product_detail", "local");
+
+            return productDetailDto;
+        }
+
+        RedisEntry redisEntry = getRedis(productId);
+
+        if (redisEntry == null || redisEntry.value() == null) {
+            shopMetrics.cacheResult("product_detail", "miss");
+
+            productDetailDto = loader.apply(productId);
+
+            if (redisEntry != null) {
+                putRedis(productId, redisEntry.version(), productDetailDto);
+            }
+        } else {
+            shopMetrics.cacheResult("product_detail", "redis");
+
+            productDetailDto = redisEntry.value();
+        }
+
+        localCache.put(productId, productDetailDto);
+
+        return productDetailDto;
+    }
+
+    // 상품 정보 변경 시 호출 (커밋 후 삭제)
+    public void evict(Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(productId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(productId);
+            }
+        });
+    }
+
+    // 다른 서버에서 발행한 삭제 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            localCache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 상품 캐시 삭제 메시지 : {}", message);
+        }
+    }
+
+    private void evictNow(Long productId) {
+        localCache.invalidate(productId);
+
+        if (!isRedisAvailable()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, keys(productId), String.valueOf(REDIS_TTL.toMillis()));
+            redisTemplate.convertAndSend(EVICT_TOPIC.getTopic(), String.valueOf(productId));
+        } catch (DataAccessException e) {
+            redisFailed(e);
+        }
+    }
+
+    /**
+     * @return Redis 를 사용할 수 없으면 null, 캐시가 없으면 value 가 null
+     */
+    private RedisEntry getRedis(Long productId) {
+        if (!isRedisAvailable()) {
+            return null;
+        }
+
+        subscribe();
+
+        List<String> values;
+
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys(productId));
+        } catch (DataAccessException e) {
+            redisFailed(e);
+
+            return null;
+        }
+
+        if (values == null || values.size() < 2) {
+            return null;
+        }
+
+        String version = values.get(1) == null ? "0" : values.get(1);
+
+        if (values.get(0) == null) {
+            return new RedisEntry(null, version);
+        }
+
+        try {
+            return new RedisEntry(objectMapper.readValue(values.get(0), ProductDetailDto.class), version);
+        } catch (JsonProcessingException e) {
+            log.warn("상품 상세 캐시 역직렬화 실패 : {}", productId);
+
+            return new RedisEntry(null, version);
+        }
+    }
+
+    // 조회 전에 읽은 버전과 같을 때만 저장 (그 사이 상품이 변경되었으면 저장하지 않음)
+    private void putRedis(Long productId, String version, ProductDetailDto productDetailDto) {
+        if (!isRedisAvailable()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(PUT_SCRIPT, keys(productId),
+                    version, objectMapper.writeValueAsString(productDetailDto), String.valueOf(REDIS_TTL.toMillis()));
+        } catch (DataAccessException e) {
+            redisFailed(e);
+        } catch (JsonProcessingException e) {
+            log.warn("상품 상세 캐시 직렬화 실패 : {}", productId);
+        }
+    }
+
+    private List<String> keys(Long productId) {
+        return List.of(KEY_PREFIX + productId, VERSION_KEY_PREFIX + productId);
+    }
+
+    /**
+     * 삭제 메시지 구독
+     * Redis 없이도 기동되도록 기동 시가 아닌 첫 캐시 조회 시 구독하고, 실패하면 다음 조회 때 다시 시도
+     */
+    private void subscribe() {
+        if (subscribed || !redisMessageListenerContainer.isRunning()) {
+            return;
+        }
+
+        try {
+            redisMessageListenerContainer.addMessageListener(this, EVICT_TOPIC);
+            subscribed = true;
+        } catch (RuntimeException e) {
+            redisFailed(e);
+        }
+    }
+
+    private boolean isRedisAvailable() {
+        return System.currentTimeMillis() >= redisRetryAt;
+    }
+
+    private void redisFailed(RuntimeException e) {
+        log.warn("상품 상세 Redis 캐시 사용 불가 : {}", e.getMessage());
+
+        redisRetryAt = System.currentTimeMillis() + REDIS_RETRY_MILLIS;
+    }
+
+    /**
+     * @param value 캐시된 상품 상세, 없으면 null
+     * @param version 조회 시점의 버전
+     */
+    private record RedisEntry(ProductDetailDto value, String version) {
+    }
+}
@@ -8,17 +8,26 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
+import furniture.shop.product.dto.ProductCountDto;
+import furniture.shop.product.dto.ProductKeywordDto;
 import furniture.shop.product.dto.ProductListDto;
 import furniture.shop.product.dto.ProductSearchCondition;
+import furniture.shop.product.dto.QProductCountDto;
+import furniture.shop.product.dto.QProductKeywordDto;
 import furniture.shop.product.dto.QProductListDto;
 import furniture.shop.review.QReview;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
 
 import static furniture.shop.product.QProduct.product;
 import static furniture.shop.review.QReview.*;
@@ -33,44 +42,169 @@ public class ProductQueryRepository {
     }
 
     public Page<ProductListDto> searchProductPage(ProductSearchCondition searchCondition, Pageable pageable) {
-        List<ProductListDto> content = jpaQueryFactory
+        return searchProductPage(searchCondition, pageable, () -> countProduct(searchCondition));
+    }
+
+    // 전체 개수는 totalSupplier 로 조회 (캐시된 개수 사용 가능)
+    public Page<ProductListDto> searchProductPage(ProductSearchCondition searchCondition, Pageable pageable, LongSupplier totalSupplier) {
+        List<ProductListDto> content = productListQuery(searchCondition)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, totalSupplier);
+    }
+
+    // 개수 조회 없이 pageSize + 1 건을 조회하여 다음 페이지 여부만 확인
+    public Slice<ProductListDto> searchProductSlice(ProductSearchCondition searchCondition, Pageable pageable) {
+        List<ProductListDto> content = productListQuery(searchCondition)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    public long countProduct(ProductSearchCondition searchCondition) {
+        Long count = jpaQueryFactory
+                .select(product.count())
+                .from(product)
+                .where(
+                        inProductIds(searchCondition.getProductIds()),
+                        likeProductCode(searchCondition.getProductCode()),
+                        likeProductName(searchCondition.getProductName()),
+                        eqStatus(searchCondition.getProductStatus()),
+                        eqCategory(searchCondition.getProductCategory())
+                )
+                .fetchOne();
+
+        return count == null ? 0L : count;
+    }
+
+    // 카테고리, 상태별 상품 개수
+    public List<ProductCountDto> countProductGroupByCategoryAndStatus() {
+        return jpaQueryFactory
+                .select(new QProductCountDto(
+                        product.productCategory,
+                        product.productStatus,
+                        product.count()
+                ))
+                .from(product)
+                .groupBy(product.productCategory, product.productStatus)
+                .fetch();
+    }
+
+    private JPAQuery<ProductListDto> productListQuery(ProductSearchCondition searchCondition) {
+        return jpaQueryFactory
                 .select(new QProductListDto(
                         product.id,
                         product.productName,
                         product.productStatus,
                         product.productCategory,
-                        review.count()
+                        product.reviewCount
                 ))
                 .from(product)
-                .leftJoin(product.reviews, review)
                 .where(
+                        inProductIds(searchCondition.getProductIds()),
                         likeProductCode(searchCondition.getProductCode()),
                         likeProductName(searchCondition.getProductName()),
                         eqStatus(searchCondition.getProductStatus()),
                         eqCategory(searchCondition.getProductCategory())
                 )
-                .groupBy(product.id)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(new OrderSpecifier<>(Order.ASC, product.id))
-                .fetch();
+                .orderBy(new OrderSpecifier<>(Order.ASC, product.id));
+    }
 
-        JPAQuery<Long> countQuery = jpaQueryFactory
-                .select(product.count())
+    // 커서 기반 조회 : 마지막 상품 ID 이후부터 size + 1 건 조회 (다음 목록 존재 여부 확인용)
+    public List<ProductListDto> scrollProduct(ProductSearchCondition searchCondition, Long lastProductId, int size) {
+        return jpaQueryFactory
+                .select(new QProductListDto(
+                        product.id,
+                        product.productName,
+                        product.productStatus,
+                        product.productCategory,
+                        product.reviewCount
+                ))
                 .from(product)
                 .where(
+                        gtProductId(lastProductId),
+                        inProductIds(searchCondition.getProductIds()),
                         likeProductCode(searchCondition.getProductCode()),
                         likeProductName(searchCondition.getProductName()),
                         eqStatus(searchCondition.getProductStatus()),
                         eqCategory(searchCondition.getProductCategory())
-                );
+                )
+                .limit(size + 1)
+                .orderBy(new OrderSpecifier<>(Order.ASC, product.id))
+                .fetch();
+    }
+
+    public Long findMaxProductId() {
+        Long maxId = jpaQueryFactory
+                .select(product.id.max())
+                .from(product)
+                .fetchOne();
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetchOne());
+        return maxId == null ? 0L : maxId;
+    }
+
+    // 상품 ID 범위의 리뷰 개수, 별점 합계를 리뷰 테이블 기준으로 다시 계산
+    @Transactional
+    public long reconcileReviewAggregate(Long fromProductId, Long toProductId) {
+        return jpaQueryFactory
+                .update(product)
+                .set(product.reviewCount, JPAExpressions
+                        .select(review.count())
+                        .from(review)
+                        .where(review.product.eq(product)))
+                .set(product.reviewRateSum, JPAExpressions
+                        .select(review.rate.sum().coalesce(0.0))
+                        .from(review)
+                        .where(review.product.eq(product)))
+                .where(product.id.gt(fromProductId), product.id.loe(toProductId))
+                .execute();
+    }
+
+    // 검색 색인 적재용 (상품코드, 상품명은 수정되지 않으므로 ID 이후 상품만 조회)
+    public List<ProductKeywordDto> findProductKeywords(Long lastProductId) {
+        return jpaQueryFactory
+                .select(new QProductKeywordDto(
+                        product.id,
+                        product.productCode,
+                        product.productName
+                ))
+                .from(product)
+                .where(product.id.gt(lastProductId))
+                .orderBy(product.id.asc())
+                .fetch();
+    }
+
+    private BooleanExpression gtProductId(Long lastProductId) {
+        if (lastProductId != null) {
+            return product.id.gt(lastProductId);
+        }
+
+        return null;
+    }
+
+    // 후보 ID 범위로 먼저 좁힌 뒤 LIKE 는 후보 행에만 적용
+    private BooleanExpression inProductIds(Set<Long> productIds) {
+        if (productIds != null) {
+            return product.id.in(productIds);
+        }
+
+        return null;
     }
 
+    // contains 는 검색어의 %, _ 를 escape 하여 색인과 같이 문자 그대로 비교
     private BooleanExpression likeProductCode(String productCode) {
         if (StringUtils.hasText(productCode)) {
-            return product.productCode.like("%" + productCode + "%");
+            return product.productCode.contains(productCode);
         }
 
         return null;
@@ -78,7 +212,7 @@ public class ProductQueryRepository {
 
     private BooleanExpression likeProductName(String productName) {
         if (StringUtils.hasText(productName)) {
-            return product.productName.like("%" + productName + "%");
+            return product.productName.contains(productName);
         }
 
         return null;
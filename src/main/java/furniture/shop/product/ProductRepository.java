@@ -1,7 +1,36 @@
 package furniture.shop.product;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
     Product findByProductCode(String productCode);
+
+    // 재고가 충분한 경우에만 차감 (차감된 행 수 반환, 0 이면 재고 부족)
+    @Modifying
+    @Query("update Product p set p.stock = p.stock - :count where p.id = :productId and p.stock >= :count")
+    int decreaseStock(@Param("productId") Long productId, @Param("count") int count);
+
+    @Modifying
+    @Query("update Product p set p.stock = p.stock + :count where p.id = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("count") int count);
+
+    @Modifying
+    @Query("update Product p set p.sellingCount = coalesce(p.sellingCount, 0) + :count where p.id = :productId")
+    int addSellingCount(@Param("productId") Long productId, @Param("count") long count);
+
+    // 리뷰 개수, 별점 합계는 엔티티 값이 아닌 DB 값 기준으로 증감 (동시에 등록/수정/삭제해도 누락 없음)
+    @Modifying
+    @Query("update Product p set p.reviewCount = p.reviewCount + 1, p.reviewRateSum = p.reviewRateSum + :rate where p.id = :productId")
+    int addReviewRate(@Param("productId") Long productId, @Param("rate") double rate);
+
+    @Modifying
+    @Query("update Product p set p.reviewRateSum = p.reviewRateSum + :delta where p.id = :productId")
+    int changeReviewRate(@Param("productId") Long productId, @Param("delta") double delta);
+
+    @Modifying
+    @Query("update Product p set p.reviewCount = p.reviewCount - 1, p.reviewRateSum = p.reviewRateSum - :rate where p.id = :productId")
+    int removeReviewRate(@Param("productId") Long productId, @Param("rate") double rate);
 }
@@ -0,0 +1,132 @@
+package furniture.shop.product;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품명, 상품코드 n-gram 역색인
+ * 한글은 음절 단위 한 글자로 취급하여 bigram(검색어 1글자는 unigram)으로 색인
+ * 색인 결과는 후보 상품 ID이며 최종 일치 여부는 DB 조건으로 한 번 더 거른다.
+ * 검색어의 %, _ 는 색인, DB 조건 모두 와일드카드가 아닌 문자 그대로 비교한다.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private final Map<String, Set<Long>> nameIndex = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> codeIndex = new ConcurrentHashMap<>();
+
+    // 색인에 반영된 가장 큰 상품 ID
+    private final AtomicLong lastProductId = new AtomicLong(0L);
+
+    public void add(Long productId, String productCode, String productName) {
+        put(codeIndex, productId, productCode);
+        put(nameIndex, productId, productName);
+
+        lastProductId.accumulateAndGet(productId, Math::max);
+    }
+
+    // 상품 등록 (커밋 후 반영, 롤백된 상품은 색인하지 않음)
+    public void register(Long productId, String productCode, String productName) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(productId, productCode, productName);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(productId, productCode, productName);
+            }
+        });
+    }
+
+    public Long getLastProductId() {
+        return lastProductId.get();
+    }
+
+    /**
+     * 상품코드, 상품명 조건에 해당하는 후보 상품 ID 조회
+     * @return 검색어가 없으면 null, 일치하는 상품이 없으면 빈 Set
+     */
+    public Set<Long> search(String productCode, String productName) {
+        Set<Long> codeResult = find(codeIndex, productCode);
+        Set<Long> nameResult = find(nameIndex, productName);
+
+        if (codeResult == null) {
+            return nameResult;
+        }
+
+        if (nameResult == null) {
+            return codeResult;
+        }
+
+        codeResult.retainAll(nameResult);
+
+        return codeResult;
+    }
+
+    private void put(Map<String, Set<Long>> index, Long productId, String text) {
+        for (String token : tokenize(text)) {
+            index.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(productId);
+        }
+    }
+
+    private Set<Long> find(Map<String, Set<Long>> index, String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+
+        String normalized = normalize(keyword);
+        List<Set<Long>> postings = new ArrayList<>();
+
+        // 1글자 검색어는 unigram, 그 외는 bigram 교집합
+        if (normalized.length() == 1) {
+            postings.add(index.getOrDefault(normalized, Collections.emptySet()));
+        } else {
+            for (int i = 0; i < normalized.length() - 1; i++) {
+                postings.add(index.getOrDefault(normalized.substring(i, i + 2), Collections.emptySet()));
+            }
+        }
+
+        // 가장 작은 posting 부터 교집합
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(postings.get(0));
+
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result.retainAll(postings.get(i));
+        }
+
+        return result;
+    }
+
+    static List<String> tokenize(String text) {
+        if (!StringUtils.hasText(text)) {
+            return Collections.emptyList();
+        }
+
+        String normalized = normalize(text);
+        List<String> tokens = new ArrayList<>();
+
+        for (int i = 0; i < normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 1));
+
+            if (i < normalized.length() - 1) {
+                tokens.add(normalized.substring(i, i + 2));
+            }
+        }
+
+        return tokens;
+    }
+
+    // 공백 제거, 소문자 변환 (MySQL 기본 collation 의 대소문자 무시 LIKE 와 동일하게)
+    private static String normalize(String text) {
+        return StringUtils.trimAllWhitespace(text).toLowerCase(Locale.ROOT);
+    }
+}
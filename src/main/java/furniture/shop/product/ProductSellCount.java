@@ -0,0 +1,36 @@
+package furniture.shop.product;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 판매량 변경 기록
+ * 결제/환불 시 상품 행을 수정하지 않고 기록만 추가하고, 주기적으로 합산하여 Product.sellingCount 에 반영 후 삭제
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductSellCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_sell_count_seq")
+    @SequenceGenerator(name = "product_sell_count_seq", sequenceName = "product_sell_count_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    // 판매 시 +, 환불 시 -
+    private int count;
+
+    public static ProductSellCount createProductSellCount(Long productId, int count) {
+        ProductSellCount productSellCount = new ProductSellCount();
+
+        productSellCount.productId = productId;
+        productSellCount.count = count;
+
+        return productSellCount;
+    }
+}
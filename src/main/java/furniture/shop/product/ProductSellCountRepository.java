@@ -0,0 +1,23 @@
+package furniture.shop.product;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProductSellCountRepository extends JpaRepository<ProductSellCount, Long> {
+
+    // 다른 서버의 반영 작업과 같은 기록을 중복 반영하지 않도록 잠금 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ProductSellCount s order by s.id asc")
+    List<ProductSellCount> findForFlush(Pageable pageable);
+
+    @Modifying
+    @Query("delete from ProductSellCount s where s.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,83 @@
+package furniture.shop.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 판매량 반영
+ * 결제 트랜잭션에서는 판매량 변경 기록만 추가하여 인기 상품 행에 쓰기가 몰리지 않도록 하고,
+ * 기록은 결제와 함께 커밋되므로 서버가 중단되어도 다음 반영 시 누락 없이 반영된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductSellCountService {
+
+    // 한 번에 반영할 최대 기록 수
+    private static final int FLUSH_SIZE = 10000;
+
+    private final ProductSellCountRepository productSellCountRepository;
+    private final ProductRepository productRepository;
+    private final ProductDetailCache productDetailCache;
+
+    /**
+     * @param counts 상품 ID, 판매 수량
+     */
+    @Transactional
+    public void increase(Map<Long, Integer> counts) {
+        record(counts, 1);
+    }
+
+    @Transactional
+    public void decrease(Map<Long, Integer> counts) {
+        record(counts, -1);
+    }
+
+    /**
+     * 판매량 변경 기록을 상품별로 합산하여 반영 후 기록 삭제
+     * @return 반영한 기록 수
+     */
+    @Transactional
+    public int flush() {
+        List<ProductSellCount> sellCounts = productSellCountRepository.findForFlush(PageRequest.of(0, FLUSH_SIZE));
+
+        if (sellCounts.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> sums = new TreeMap<>();
+        List<Long> ids = new ArrayList<>();
+
+        for (ProductSellCount sellCount : sellCounts) {
+            sums.merge(sellCount.getProductId(), (long) sellCount.getCount(), Long::sum);
+            ids.add(sellCount.getId());
+        }
+
+        for (Map.Entry<Long, Long> entry : sums.entrySet()) {
+            if (entry.getValue() != 0) {
+                productRepository.addSellingCount(entry.getKey(), entry.getValue());
+                productDetailCache.evict(entry.getKey());
+            }
+        }
+
+        productSellCountRepository.deleteByIds(ids);
+
+        return sellCounts.size();
+    }
+
+    private void record(Map<Long, Integer> counts, int sign) {
+        List<ProductSellCount> sellCounts = new ArrayList<>();
+
+        for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+            sellCounts.add(ProductSellCount.createProductSellCount(entry.getKey(), sign * entry.getValue()));
+        }
+
+        productSellCountRepository.saveAll(sellCounts);
+    }
+}
@@ -2,20 +2,30 @@ package furniture.shop.product;
 
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.configure.response.CursorResponse;
+import furniture.shop.global.CursorUtil;
+import furniture.shop.global.ShopMetrics;
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
 import furniture.shop.product.dto.*;
 import furniture.shop.product.embed.ProductSize;
-import furniture.shop.review.Review;
+import furniture.shop.review.ReviewQueryRepository;
+import furniture.shop.review.dto.ReviewResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -23,10 +33,122 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductQueryRepository productQueryRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductCountCache productCountCache;
+    private final ReviewQueryRepository reviewQueryRepository;
+    private final ProductDetailCache productDetailCache;
+    private final ShopMetrics shopMetrics;
+    private final PlatformTransactionManager transactionManager;
+
+    // 후보가 이보다 많으면 IN 조건보다 LIKE 조회가 나으므로 색인을 사용하지 않음
+    private static final int MAX_INDEX_CANDIDATES = 1000;
+
+    // 상품 상세 조회 시 함께 조회할 리뷰 수
+    private static final int DETAIL_REVIEW_SIZE = 5;
 
     @Transactional(readOnly = true)
     public Page<ProductListDto> getProductList(ProductSearchCondition productSearchCondition, Pageable pageable) {
-        return productQueryRepository.searchProductPage(productSearchCondition, pageable);
+        // 검색어와 일치하는 상품이 없으면 DB 조회 X
+        if (!applySearchIndex(productSearchCondition)) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0);
+        }
+
+        long start = System.nanoTime();
+        Page<ProductListDto> productPage = productQueryRepository.searchProductPage(productSearchCondition, pageable, () -> countProduct(productSearchCondition));
+        shopMetrics.recordCatalogSearch("page", System.nanoTime() - start);
+
+        return productPage;
+    }
+
+    // 전체 개수 조회 없이 다음 페이지 여부만 조회
+    @Transactional(readOnly = true)
+    public Slice<ProductListDto> getProductSlice(ProductSearchCondition productSearchCondition, Pageable pageable) {
+        if (!applySearchIndex(productSearchCondition)) {
+            return new SliceImpl<>(new ArrayList<>(), pageable, false);
+        }
+
+        long start = System.nanoTime();
+        Slice<ProductListDto> productSlice = productQueryRepository.searchProductSlice(productSearchCondition, pageable);
+        shopMetrics.recordCatalogSearch("slice", System.nanoTime() - start);
+
+        return productSlice;
+    }
+
+    /**
+     * 상품 목록 전체 개수
+     * 검색어가 없으면 카테고리, 상태별 개수 캐시에서 계산, 검색어가 있으면 짧은 시간 캐시 후 DB 조회
+     */
+    private long countProduct(ProductSearchCondition productSearchCondition) {
+        if (!StringUtils.hasText(productSearchCondition.getProductCode()) && !StringUtils.hasText(productSearchCondition.getProductName())) {
+            if (!productCountCache.isLoaded()) {
+                productCountCache.reload(productQueryRepository.countProductGroupByCategoryAndStatus());
+            }
+
+            return productCountCache.getCount(productSearchCondition.getProductCategory(), productSearchCondition.getProductStatus());
+        }
+
+        ProductCountCache.KeywordKey key = new ProductCountCache.KeywordKey(productSearchCondition.getProductCode(), productSearchCondition.getProductName(),
+                productSearchCondition.getProductCategory(), productSearchCondition.getProductStatus());
+
+        Long count = productCountCache.getKeywordCount(key);
+
+        shopMetrics.cacheResult("product_count", count == null ? "miss" : "hit");
+
+        if (count == null) {
+            count = productQueryRepository.countProduct(productSearchCondition);
+            productCountCache.putKeywordCount(key, count);
+        }
+
+        return count;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<ProductListDto> getProductScroll(ProductSearchCondition productSearchCondition, String cursor, int size) {
+        CursorUtil.checkSize(size);
+
+        String[] keys = CursorUtil.decode(cursor, 1);
+        Long lastProductId = keys == null ? null : parseLong(keys[0]);
+
+        if (!applySearchIndex(productSearchCondition)) {
+            return new CursorResponse<>(new ArrayList<>(), null);
+        }
+
+        long start = System.nanoTime();
+        List<ProductListDto> content = productQueryRepository.scrollProduct(productSearchCondition, lastProductId, size);
+        shopMetrics.recordCatalogSearch("scroll", System.nanoTime() - start);
+
+        // size + 1 건이 조회되면 다음 목록이 있음
+        if (content.size() > size) {
+            content = content.subList(0, size);
+
+            return new CursorResponse<>(content, CursorUtil.encode(content.get(size - 1).getId()));
+        }
+
+        return new CursorResponse<>(content, null);
+    }
+
+    /**
+     * 검색 색인으로 후보 상품 ID 조회 후 검색 조건에 추가
+     * 다른 서버에서 등록된 상품은 주기적으로 색인 (ProductSearchIndexScheduling)
+     * 후보가 너무 많으면 후보 ID 없이 LIKE 조회
+     * @return 검색어와 일치하는 상품이 없으면 false
+     */
+    private boolean applySearchIndex(ProductSearchCondition productSearchCondition) {
+        if (!StringUtils.hasText(productSearchCondition.getProductCode()) && !StringUtils.hasText(productSearchCondition.getProductName())) {
+            return true;
+        }
+
+        Set<Long> productIds = productSearchIndex.search(productSearchCondition.getProductCode(), productSearchCondition.getProductName());
+
+        if (productIds.isEmpty()) {
+            return false;
+        }
+
+        if (productIds.size() <= MAX_INDEX_CANDIDATES) {
+            productSearchCondition.applyIndexCandidates(productIds);
+        }
+
+        return true;
     }
 
     @Transactional
@@ -48,29 +170,40 @@ public class ProductService {
                 .description(dto.getDescription())
                 .build();
 
-        return productRepository.save(product).getId();
+        Long productId = productRepository.save(product).getId();
+
+        productSearchIndex.register(productId, product.getProductCode(), product.getProductName());
+        productCountCache.increase(product.getProductCategory(), product.getProductStatus());
+
+        return productId;
     }
 
-    @Transactional(readOnly = true)
+    // 캐시에서 찾으면 DB 커넥션을 사용하지 않도록 DB 조회 시에만 트랜잭션 시작
     public ProductDetailDto getProductDetail(Long productId) {
-        if (!productRepository.findById(productId).isPresent()) {
-            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
-        }
+        return productDetailCache.get(productId, this::loadProductDetail);
+    }
 
-        Product product = productRepository.findById(productId).get();
+    private ProductDetailDto loadProductDetail(Long productId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
 
-        return detailEntityToDto(product);
+        return transactionTemplate.execute(status -> {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_VALID_ERROR));
+
+            return detailEntityToDto(product);
+        });
     }
 
     @Transactional
     public ProductDetailDto updateProduct(Long productId, ProductUpdateDto updateDto) {
-        if (!productRepository.findById(productId).isPresent()) {
-            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
-        }
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_VALID_ERROR));
 
-        Product product = productRepository.findById(productId).get();
+        productDetailCache.evict(productId);
 
         if (isValidEnumType(updateDto.getProductStatus())) {
+            productCountCache.move(product.getProductCategory(), product.getProductStatus(), updateDto.getProductStatus());
             product.updateProductStatus(updateDto.getProductStatus());
         }
 
@@ -97,6 +230,14 @@ public class ProductService {
         return detailEntityToDto(product);
     }
 
+    private Long parseLong(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+        }
+    }
+
     private boolean isValidEnumType(Enum<?> enumValue) {
 
         if (enumValue == null) {
@@ -130,27 +271,18 @@ public class ProductService {
         productDetailDto.setPrice(product.getPrice());
         productDetailDto.setStock(product.getStock());
         productDetailDto.setSellingCount(product.getSellingCount());
+        productDetailDto.setReviewCount(product.getReviewCount());
+        productDetailDto.setAverageRate(product.getAverageRate());
 
-        List<Review> reviews = product.getReviews();
-        List<ProductDetailDto.ReviewDto> reviewDtoList = new ArrayList<>();
-
-        for (Review review : reviews) {
-            ProductDetailDto.ReviewDto reviewDto = new ProductDetailDto.ReviewDto();
-
-            reviewDto.setReviewId(review.getId());
-            reviewDto.setUsername(review.getMember().getUsername());
-            reviewDto.setRate(review.getRate());
-            reviewDto.setComment(review.getComment());
-            reviewDto.setCreateDate(review.getRegisterDate());
-
-            if (review.getUpdateDate() != null) {
-                reviewDto.setUpdateDate(review.getUpdateDate());
-            }
+        // 전체 리뷰 대신 최신 리뷰만 조회 (이후 목록은 리뷰 커서 조회)
+        List<ReviewResponseDto> reviews = reviewQueryRepository.scrollReview(product.getId(), null, DETAIL_REVIEW_SIZE);
 
-            reviewDtoList.add(reviewDto);
+        if (reviews.size() > DETAIL_REVIEW_SIZE) {
+            reviews = reviews.subList(0, DETAIL_REVIEW_SIZE);
+            productDetailDto.setReviewCursor(CursorUtil.encode(reviews.get(DETAIL_REVIEW_SIZE - 1).getReviewId()));
         }
 
-        productDetailDto.setReviewDtoList(reviewDtoList);
+        productDetailDto.setReviewDtoList(reviews);
 
         return productDetailDto;
     }
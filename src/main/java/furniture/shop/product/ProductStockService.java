@@ -0,0 +1,51 @@
+package furniture.shop.product;
+
+import furniture.shop.configure.exception.CustomException;
+import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.global.ShopMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 재고 예약
+ * 주문 생성 시 조건부 UPDATE (stock >= 수량) 로 차감하여 재고를 읽고 쓰는 사이에 다른 주문이 끼어들 수 없음
+ * 결제 전 만료된 주문, 환불된 주문은 반환
+ * 여러 상품은 상품 ID 순으로 차감하여 주문 간 행 잠금 순서를 맞춤 (데드락 방지)
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductStockService {
+
+    private final ProductRepository productRepository;
+    private final ProductDetailCache productDetailCache;
+    private final ShopMetrics shopMetrics;
+
+    /**
+     * @param counts 상품 ID, 수량
+     */
+    @Transactional
+    public void reserve(Map<Long, Integer> counts) {
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(counts).entrySet()) {
+            if (productRepository.decreaseStock(entry.getKey(), entry.getValue()) == 0) {
+                shopMetrics.stockConflict();
+
+                throw new CustomException(CustomExceptionCode.NOT_ENOUGH_PRODUCT_EXCEPTION);
+            }
+
+            productDetailCache.evict(entry.getKey());
+        }
+    }
+
+    @Transactional
+    public void release(Map<Long, Integer> counts) {
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(counts).entrySet()) {
+            productRepository.increaseStock(entry.getKey(), entry.getValue());
+
+            productDetailCache.evict(entry.getKey());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package furniture.shop.product.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import furniture.shop.product.constant.ProductCategory;
+import furniture.shop.product.constant.ProductStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ProductCountDto {
+
+    private ProductCategory productCategory;
+    private ProductStatus productStatus;
+    private Long count;
+
+    @QueryProjection
+    public ProductCountDto(ProductCategory productCategory, ProductStatus productStatus, Long count) {
+        this.productCategory = productCategory;
+        this.productStatus = productStatus;
+        this.count = count;
+    }
+}
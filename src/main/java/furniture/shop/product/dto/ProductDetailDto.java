@@ -2,12 +2,12 @@ package furniture.shop.product.dto;
 
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
+import furniture.shop.review.dto.ReviewResponseDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -50,30 +50,15 @@ public class ProductDetailDto {
     @Schema(description = "총 판매량")
     private Long sellingCount;
 
-    @Schema(description = "리뷰")
-    private List<ReviewDto> reviewDtoList = new ArrayList<>();
+    @Schema(description = "리뷰 개수")
+    private long reviewCount;
 
-    @Getter
-    @Setter
-    @NoArgsConstructor
-    public static class ReviewDto {
+    @Schema(description = "평균 별점")
+    private double averageRate;
 
-        @Schema(description = "리뷰 ID")
-        private Long reviewId;
+    @Schema(description = "최신 리뷰")
+    private List<ReviewResponseDto> reviewDtoList = new ArrayList<>();
 
-        @Schema(description = "코멘트")
-        private String comment;
-
-        @Schema(description = "별점")
-        private double rate;
-
-        @Schema(description = "작성자")
-        private String username;
-
-        @Schema(description = "작성시각")
-        private LocalDateTime createDate;
-
-        @Schema(description = "수정시각")
-        private LocalDateTime updateDate;
-    }
+    @Schema(description = "다음 리뷰 조회용 커서 (GET /product/{id}/reviews, 없으면 null)")
+    private String reviewCursor;
 }
@@ -0,0 +1,21 @@
+package furniture.shop.product.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ProductKeywordDto {
+
+    private Long id;
+    private String productCode;
+    private String productName;
+
+    @QueryProjection
+    public ProductKeywordDto(Long id, String productCode, String productName) {
+        this.id = id;
+        this.productCode = productCode;
+        this.productName = productName;
+    }
+}
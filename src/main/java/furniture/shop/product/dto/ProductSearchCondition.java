@@ -2,10 +2,13 @@ package furniture.shop.product.dto;
 
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.Set;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,4 +18,12 @@ public class ProductSearchCondition {
     private String productName;
     private ProductCategory productCategory;
     private ProductStatus productStatus;
+
+    // 검색 색인으로 찾은 후보 상품 ID (요청 파라미터로 바인딩되지 않도록 setter 없음)
+    @Setter(AccessLevel.NONE)
+    private Set<Long> productIds;
+
+    public void applyIndexCandidates(Set<Long> productIds) {
+        this.productIds = productIds;
+    }
 }
@@ -1,9 +1,13 @@
 package furniture.shop.review;
 
 import furniture.shop.configure.response.ApiResponse;
+import furniture.shop.configure.response.CursorResponse;
 import furniture.shop.review.dto.ReviewAddRequestDto;
 import furniture.shop.review.dto.ReviewEditRequestDto;
+import furniture.shop.review.dto.ReviewResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,6 +24,27 @@ public class ReviewController {
 
     private final ReviewService reviewService;
 
+    @GetMapping("/product/{id}/reviews")
+    @Operation(summary = "리뷰 커서 조회", description = "상품 리뷰 조회 (최신순, 커서 기반 다음 목록) API")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "리뷰를 조회했습니다.", content = @Content(mediaType = "application/json")),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 입력입니다.", content = @Content(mediaType = "application/json")),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "권한이 없습니다.", content = @Content(mediaType = "application/json")),
+    })
+    @Parameters(value = {
+            @Parameter(name = "cursor", description = "이전 조회 결과의 nextCursor 또는 상품 상세의 reviewCursor (첫 조회 시 생략)"),
+            @Parameter(name = "size", description = "조회 개수 (최대 100)", example = "10")
+    })
+    public ResponseEntity<ApiResponse<CursorResponse<ReviewResponseDto>>> getReviewScroll(
+            @PathVariable("id") Long productId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size"  , required = false, defaultValue = "10") int size) {
+
+        CursorResponse<ReviewResponseDto> reviewList = reviewService.getReviewScroll(productId, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.res(HttpStatus.OK, "리뷰를 조회했습니다.", reviewList));
+    }
+
     @PostMapping("/product/{id}/review")
     @Operation(summary = "리뷰 등록", description = "리뷰 등록 API")
     @ApiResponses(value = {
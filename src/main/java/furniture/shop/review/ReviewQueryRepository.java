@@ -0,0 +1,50 @@
+package furniture.shop.review;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import furniture.shop.review.dto.QReviewResponseDto;
+import furniture.shop.review.dto.ReviewResponseDto;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static furniture.shop.member.QMember.member;
+import static furniture.shop.review.QReview.review;
+
+@Repository
+public class ReviewQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public ReviewQueryRepository(JPAQueryFactory jpaQueryFactory) {
+        this.jpaQueryFactory = jpaQueryFactory;
+    }
+
+    // 커서 기반 조회 : 최신 리뷰부터 마지막 리뷰 ID 이전 size + 1 건 조회 (다음 목록 존재 여부 확인용)
+    public List<ReviewResponseDto> scrollReview(Long productId, Long lastReviewId, int size) {
+        return jpaQueryFactory
+                .select(new QReviewResponseDto(
+                        review.id,
+                        review.comment,
+                        review.rate,
+                        member.username,
+                        review.registerDate,
+                        review.updateDate
+                ))
+                .from(review)
+                .join(review.member, member)
+                .where(
+                        review.product.id.eq(productId),
+                        ltReviewId(lastReviewId)
+                )
+                .orderBy(new OrderSpecifier<>(Order.DESC, review.id))
+                .limit(size + 1)
+                .fetch();
+    }
+
+    private BooleanExpression ltReviewId(Long lastReviewId) {
+        return lastReviewId == null ? null : review.id.lt(lastReviewId);
+    }
+}
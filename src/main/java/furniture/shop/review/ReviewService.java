@@ -2,15 +2,19 @@ package furniture.shop.review;
 
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.configure.response.CursorResponse;
+import furniture.shop.global.CursorUtil;
 import furniture.shop.global.MemberAuthorizationUtil;
 import furniture.shop.member.Member;
 import furniture.shop.order.Orders;
 import furniture.shop.order.OrdersRepository;
 import furniture.shop.order.contsant.OrdersStatus;
 import furniture.shop.product.Product;
+import furniture.shop.product.ProductDetailCache;
 import furniture.shop.product.ProductRepository;
 import furniture.shop.review.dto.ReviewAddRequestDto;
 import furniture.shop.review.dto.ReviewEditRequestDto;
+import furniture.shop.review.dto.ReviewResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +29,39 @@ public class ReviewService {
     private final MemberAuthorizationUtil memberAuthorizationUtil;
     private final ReviewRepository reviewRepository;
     private final OrdersRepository ordersRepository;
+    private final ReviewQueryRepository reviewQueryRepository;
+    private final ProductDetailCache productDetailCache;
+
+    @Transactional(readOnly = true)
+    public CursorResponse<ReviewResponseDto> getReviewScroll(Long productId, String cursor, int size) {
+        CursorUtil.checkSize(size);
+
+        String[] keys = CursorUtil.decode(cursor, 1);
+        Long lastReviewId = null;
+
+        if (keys != null) {
+            try {
+                lastReviewId = Long.valueOf(keys[0]);
+            } catch (NumberFormatException e) {
+                throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+            }
+        }
+
+        if (!productRepository.existsById(productId)) {
+            throw new CustomException(CustomExceptionCode.NOT_VALID_ERROR);
+        }
+
+        List<ReviewResponseDto> content = reviewQueryRepository.scrollReview(productId, lastReviewId, size);
+
+        // size + 1 건이 조회되면 다음 목록이 있음
+        if (content.size() > size) {
+            content = content.subList(0, size);
+
+            return new CursorResponse<>(content, CursorUtil.encode(content.get(size - 1).getReviewId()));
+        }
+
+        return new CursorResponse<>(content, null);
+    }
 
     @Transactional
     public void addReview(ReviewAddRequestDto dto) {
@@ -51,6 +88,10 @@ public class ReviewService {
         }
 
         Review review = Review.createReview(product, member, dto.getComment(), dto.getRate());
+
+        productRepository.addReviewRate(product.getId(), dto.getRate());
+
+        productDetailCache.evict(product.getId());
     }
 
     @Transactional
@@ -65,8 +106,14 @@ public class ReviewService {
             throw new CustomException(CustomExceptionCode.NOT_VALID_AUTH_ERROR);
         }
 
+        double beforeRate = review.getRate();
+
         review.editComment(dto.getComment());
         review.editRate(dto.getRate());
+
+        productRepository.changeReviewRate(review.getProduct().getId(), dto.getRate() - beforeRate);
+
+        productDetailCache.evict(review.getProduct().getId());
     }
 
     @Transactional
@@ -83,7 +130,11 @@ public class ReviewService {
 
         Product product = review.getProduct();
 
-        product.getReviews().remove(review);
+        if (product.removeReview(review)) {
+            productRepository.removeReviewRate(product.getId(), review.getRate());
+        }
+
+        productDetailCache.evict(product.getId());
     }
 
 }
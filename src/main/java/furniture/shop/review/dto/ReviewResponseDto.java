@@ -0,0 +1,44 @@
+package furniture.shop.review.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "리뷰 Response DTO")
+public class ReviewResponseDto {
+
+    @Schema(description = "리뷰 ID")
+    private Long reviewId;
+
+    @Schema(description = "코멘트")
+    private String comment;
+
+    @Schema(description = "별점")
+    private double rate;
+
+    @Schema(description = "작성자")
+    private String username;
+
+    @Schema(description = "작성시각")
+    private LocalDateTime createDate;
+
+    @Schema(description = "수정시각")
+    private LocalDateTime updateDate;
+
+    @QueryProjection
+    public ReviewResponseDto(Long reviewId, String comment, double rate, String username, LocalDateTime createDate, LocalDateTime updateDate) {
+        this.reviewId = reviewId;
+        this.comment = comment;
+        this.rate = rate;
+        this.username = username;
+        this.createDate = createDate;
+        this.updateDate = updateDate;
+    }
+}
@@ -112,7 +112,7 @@ public class CartServiceIntegrationTest {
 
         assertNotNull(cart);
 
-        CartProduct cartProduct = cartProductRepository.findByCartIdAndProductId(cart.getId(), 1L);
+        CartProduct cartProduct = cartProductRepository.findByCartIdAndProductId(cart.getId(), product1.getId());
 
         assertNotNull(cartProduct);
         assertEquals(20, cartProduct.getCount());
@@ -155,6 +155,30 @@ public class CartServiceIntegrationTest {
         assertEquals(1, cart.getCartProductDtoList().get(0).getCount());
     }
 
+    @Test
+    @DisplayName("장바구니 조회 테스트 - 상품 가격 변경 시 현재 가격으로 계산")
+    @WithMockCustomMember(email = "test@test.com")
+    void 장바구니_조회_가격_변경_테스트() {
+        CartProductAddDto cartProductAddDto = new CartProductAddDto();
+
+        cartProductAddDto.setProductId(product1.getId());
+        cartProductAddDto.setCount(2);
+
+        cartService.addCart(cartProductAddDto);
+
+        productRepository.findById(product1.getId()).orElseThrow().updatePrice(10);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        CartDto cart = cartService.getCart();
+
+        assertEquals(1, cart.getCartProductDtoList().size());
+        assertEquals(10, cart.getCartProductDtoList().get(0).getUnitPrice());
+        assertEquals(20, cart.getCartProductDtoList().get(0).getPrice());
+        assertEquals(20, cart.getTotalPrice());
+    }
+
     @Test
     @DisplayName("빈 장바구니 조회 테스트")
     @WithMockCustomMember(email = "test@test.com")
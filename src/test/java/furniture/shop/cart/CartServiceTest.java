@@ -2,6 +2,7 @@ package furniture.shop.cart;
 
 import furniture.shop.cart.dto.CartDto;
 import furniture.shop.cart.dto.CartProductAddDto;
+import furniture.shop.cart.dto.CartProductDto;
 import furniture.shop.cart.dto.CartProductEditDto;
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
@@ -22,8 +23,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,6 +55,15 @@ class CartServiceTest {
     @Mock
     MemberAuthorizationUtil memberAuthorizationUtil;
 
+    @Mock
+    CartStore cartStore;
+
+    @Mock
+    CartQueryRepository cartQueryRepository;
+
+    @Mock
+    CartWriteBehind cartWriteBehind;
+
     Product product;
     Member member;
     Cart cart;
@@ -117,18 +130,25 @@ class CartServiceTest {
     @DisplayName("장바구니 조회 성공 테스트")
     void 장바구니_조회_성공_테스트() {
         when(memberAuthorizationUtil.getMember()).thenReturn(member);
-        when(cartRepository.findByMemberId(member.getId())).thenReturn(cart);
+        when(cartQueryRepository.getCartProducts(member.getId())).thenReturn(List.of(
+                new CartProductDto(0L, "test-1234", "테스트 상품", 3, 100, ProductStatus.SELLING, 10),
+                new CartProductDto(1L, "test-5678", "테스트 상품2", 2, 250, ProductStatus.SELLING, 1)));
 
         CartDto cartDto = cartService.getCart();
 
         assertNotNull(cartDto);
+        assertEquals(2, cartDto.getCartProductDtoList().size());
+        assertEquals(300, cartDto.getCartProductDtoList().get(0).getPrice());
+        assertFalse(cartDto.getCartProductDtoList().get(0).isSoldOut());
+        assertTrue(cartDto.getCartProductDtoList().get(1).isSoldOut());
+        assertEquals(800, cartDto.getTotalPrice());
     }
 
     @Test
     @DisplayName("장바구니 조회 실패 테스트")
     void 장바구니_조회_실패_테스트() {
         when(memberAuthorizationUtil.getMember()).thenReturn(member);
-        when(cartRepository.findByMemberId(member.getId())).thenReturn(null);
+        when(cartQueryRepository.getCartProducts(member.getId())).thenReturn(List.of());
 
         CartDto cartDto = cartService.getCart();
 
@@ -199,4 +219,106 @@ class CartServiceTest {
         assertThrows(CustomException.class, () -> cartService.editCartProduct(dto));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Redis 장바구니 상품 추가 테스트")
+    void Redis_장바구니_상품_추가_테스트() {
+        CartProductAddDto cartProductAddDto = new CartProductAddDto();
+        cartProductAddDto.setProductId(0L);
+        cartProductAddDto.setCount(5);
+
+        when(memberAuthorizationUtil.getMember()).thenReturn(member);
+        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
+        when(cartStore.isAvailable()).thenReturn(true);
+        when(cartStore.add(member.getId(), product.getId(), 5)).thenReturn(true);
+
+        cartService.addCart(cartProductAddDto);
+
+        verify(cartRepository, never()).findByMemberId(any());
+        verify(cartProductRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장바구니 상품 추가 테스트 - DB 장바구니 불러오기")
+    void Redis_장바구니_불러오기_테스트() {
+        CartProduct.createCartProduct(cart, product, 2);
+
+        CartProductAddDto cartProductAddDto = new CartProductAddDto();
+        cartProductAddDto.setProductId(0L);
+        cartProductAddDto.setCount(5);
+
+        when(memberAuthorizationUtil.getMember()).thenReturn(member);
+        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
+        when(cartStore.isAvailable()).thenReturn(true);
+        when(cartStore.add(member.getId(), product.getId(), 5)).thenReturn(false, true);
+        when(cartRepository.findByMemberId(member.getId())).thenReturn(cart);
+
+        cartService.addCart(cartProductAddDto);
+
+        verify(cartStore, times(1)).load(member.getId(), 0L, Map.of(product.getId(), 2));
+        verify(cartStore, times(2)).add(member.getId(), product.getId(), 5);
+
+        // DB 장바구니는 변경하지 않음
+        assertEquals(2, cart.getCartProductList().get(0).getCount());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 장바구니 상품 추가 테스트")
+    void Redis_장애_장바구니_상품_추가_테스트() {
+        CartProductAddDto cartProductAddDto = new CartProductAddDto();
+        cartProductAddDto.setProductId(0L);
+        cartProductAddDto.setCount(5);
+
+        RedisConnectionFailureException exception = new RedisConnectionFailureException("down");
+
+        when(memberAuthorizationUtil.getMember()).thenReturn(member);
+        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
+        when(cartStore.isAvailable()).thenReturn(true);
+        when(cartStore.add(member.getId(), product.getId(), 5)).thenThrow(exception);
+        when(cartRepository.findByMemberId(member.getId())).thenReturn(cart);
+
+        cartService.addCart(cartProductAddDto);
+
+        verify(cartStore, times(1)).markUnavailable(exception);
+        verify(cartWriteBehind, times(1)).evictAfterCommit(member.getId());
+
+        assertEquals(1, cart.getCartProductList().size());
+        assertEquals(500, cart.getTotalPrice());
+        assertEquals(1L, cart.getRevision());
+    }
+
+    @Test
+    @DisplayName("Redis 장바구니 조회 테스트 - 현재 가격으로 계산")
+    void Redis_장바구니_조회_테스트() {
+        when(memberAuthorizationUtil.getMember()).thenReturn(member);
+        when(cartStore.isAvailable()).thenReturn(true);
+        when(cartStore.find(member.getId())).thenReturn(new CartStore.CartSnapshot(3L, Map.of(product.getId(), 3)));
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+
+        CartDto cartDto = cartService.getCart();
+
+        assertEquals(1, cartDto.getCartProductDtoList().size());
+        assertEquals("test-1234", cartDto.getCartProductDtoList().get(0).getProductCode());
+        assertEquals(300, cartDto.getCartProductDtoList().get(0).getPrice());
+        assertEquals(300, cartDto.getTotalPrice());
+
+        verify(cartRepository, never()).findByMemberId(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장바구니 수정 실패 테스트 - 장바구니 상품 없음")
+    void Redis_장바구니_수정_실패_테스트() {
+        CartProductEditDto dto = new CartProductEditDto();
+        dto.setProductId(0L);
+        dto.setCount(5);
+
+        when(memberAuthorizationUtil.getMember()).thenReturn(member);
+        when(cartStore.isAvailable()).thenReturn(true);
+        when(cartStore.edit(member.getId(), 0L, 5)).thenReturn(0L);
+
+        CustomException customException = assertThrows(CustomException.class, () -> cartService.editCartProduct(dto));
+
+        assertEquals(CustomExceptionCode.NOT_VALID_ERROR, customException.getCode());
+        verify(cartRepository, never()).findByMemberId(any());
+    }
+
+}
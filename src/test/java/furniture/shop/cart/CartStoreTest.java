@@ -0,0 +1,99 @@
+package furniture.shop.cart;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartStoreTest {
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    CartStore cartStore;
+
+    @BeforeEach
+    void setUp() {
+        cartStore = new CartStore(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Redis 복구 후 장애 중 DB 로 변경한 장바구니 삭제 테스트")
+    void Redis_복구_장바구니_삭제_테스트() {
+        cartStore.markUnavailable(new RedisConnectionFailureException("down"));
+
+        // 장애 중 DB 로 변경
+        assertFalse(cartStore.isAvailable());
+        cartStore.markStale(1L);
+        cartStore.markStale(2L);
+
+        verify(redisTemplate, never()).delete(anyCollection());
+
+        recover();
+
+        // Redis 를 다시 사용하기 전에 삭제
+        assertTrue(cartStore.isAvailable());
+        verify(redisTemplate, times(1)).delete(argThat((List<String> keys) ->
+                keys.size() == 2 && keys.containsAll(List.of("cart:1", "cart:2"))));
+
+        // 한 번만 삭제
+        assertTrue(cartStore.isAvailable());
+        verify(redisTemplate, times(1)).delete(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Redis 복구 후 장바구니 삭제 실패 시 다시 DB 로 처리 테스트")
+    void Redis_복구_장바구니_삭제_실패_테스트() {
+        cartStore.markStale(1L);
+
+        when(redisTemplate.delete(anyCollection()))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(1L);
+
+        // 삭제하지 못하면 Redis 를 사용하지 않음
+        assertFalse(cartStore.isAvailable());
+        assertFalse(cartStore.isAvailable());
+
+        recover();
+
+        assertTrue(cartStore.isAvailable());
+        verify(redisTemplate, times(2)).delete(List.of("cart:1"));
+    }
+
+    @Test
+    @DisplayName("반영 대기 회원을 꺼내고 반영을 마친 회원만 반영 중 목록에서 삭제 테스트")
+    void 반영_대기_회원_테스트() {
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("cart:dirty", "cart:dirty:processing")), any(), any(), any()))
+                .thenReturn(List.of("1", "2"));
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        assertEquals(List.of(1L, 2L), cartStore.popDirty(500));
+
+        cartStore.completeDirty(List.of(1L));
+
+        verify(zSetOperations, times(1)).remove("cart:dirty:processing", "1");
+    }
+
+    // Redis 재시도 시각이 지난 상태
+    private void recover() {
+        ReflectionTestUtils.setField(cartStore, "redisRetryAt", 0L);
+    }
+}
@@ -0,0 +1,173 @@
+package furniture.shop.cart;
+
+import furniture.shop.global.embed.Address;
+import furniture.shop.member.Member;
+import furniture.shop.member.MemberRepository;
+import furniture.shop.product.Product;
+import furniture.shop.product.ProductRepository;
+import furniture.shop.product.constant.ProductCategory;
+import furniture.shop.product.constant.ProductStatus;
+import furniture.shop.product.embed.ProductSize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartWriteBehindTest {
+
+    @InjectMocks
+    CartWriteBehind cartWriteBehind;
+
+    @Mock
+    CartStore cartStore;
+
+    @Mock
+    CartRepository cartRepository;
+
+    @Mock
+    MemberRepository memberRepository;
+
+    @Mock
+    ProductRepository productRepository;
+
+    Member member;
+    Product product;
+    Product product2;
+    Product product3;
+    Cart cart;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+                .id(1L)
+                .address(new Address("12345", "서울시 강남구 강남대로 114", "테스트 빌딩 5층"))
+                .email("test@test.com")
+                .password("123456")
+                .phone("01012345678")
+                .username("테스터")
+                .build();
+
+        product = createProduct(1L, 100);
+        product2 = createProduct(2L, 200);
+        product3 = createProduct(3L, 300);
+
+        cart = Cart.createCart(member);
+    }
+
+    @Test
+    @DisplayName("Redis 장바구니 DB 반영 테스트")
+    void 장바구니_반영_테스트() {
+        CartProduct.createCartProduct(cart, product, 2);
+        CartProduct.createCartProduct(cart, product2, 1);
+
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        counts.put(1L, 5);
+        counts.put(3L, 1);
+
+        when(cartStore.isAvailable()).thenReturn(true);
+        when(cartStore.find(member.getId())).thenReturn(new CartStore.CartSnapshot(0L, counts));
+        when(cartRepository.findForUpdateByMemberId(member.getId())).thenReturn(cart);
+        when(productRepository.findAllById(any())).thenReturn(List.of(product, product2, product3));
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            cartWriteBehind.flush(member.getId());
+
+            verify(cartStore, never()).updateRevision(anyLong(), anyLong(), anyLong());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(2, cart.getCartProductList().size());
+        assertEquals(5, cart.getCartProductList().get(0).getCount());
+        assertEquals(product3, cart.getCartProductList().get(1).getProduct());
+        assertEquals(800, cart.getTotalPrice());
+        assertEquals(1L, cart.getRevision());
+
+        verify(cartStore, times(1)).updateRevision(member.getId(), 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("Redis 장바구니 DB 반영 테스트 - DB 가 최신이면 Redis 장바구니 삭제")
+    void 장바구니_반영_revision_불일치_테스트() {
+        CartProduct.createCartProduct(cart, product, 2);
+        cart.increaseRevision();
+
+        when(cartStore.isAvailable()).thenReturn(true);
+        when(cartStore.find(member.getId())).thenReturn(new CartStore.CartSnapshot(0L, Map.of(1L, 5)));
+        when(cartRepository.findForUpdateByMemberId(member.getId())).thenReturn(cart);
+
+        cartWriteBehind.flush(member.getId());
+
+        assertEquals(2, cart.getCartProductList().get(0).getCount());
+        assertEquals(1L, cart.getRevision());
+
+        verify(cartStore, times(1)).evict(member.getId());
+        verify(productRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장바구니 DB 반영 테스트 - DB 장바구니 생성")
+    void 장바구니_반영_생성_테스트() {
+        when(cartStore.isAvailable()).thenReturn(true);
+        when(cartStore.find(member.getId())).thenReturn(new CartStore.CartSnapshot(0L, Map.of(2L, 3)));
+        when(cartRepository.findForUpdateByMemberId(member.getId())).thenReturn(null);
+        when(memberRepository.getReferenceById(member.getId())).thenReturn(member);
+        when(productRepository.findAllById(any())).thenReturn(List.of(product2));
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            cartWriteBehind.flush(member.getId());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(cartRepository, times(1)).save(argThat(saved ->
+                saved.getCartProductList().size() == 1 && saved.getTotalPrice() == 600 && saved.getRevision() == 1L));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중 장바구니 삭제 테스트 - Redis 복구 후 삭제")
+    void 장바구니_삭제_Redis_장애_테스트() {
+        when(cartStore.isAvailable()).thenReturn(false);
+
+        cartWriteBehind.evictAfterCommit(member.getId());
+
+        verify(cartStore, never()).evict(any());
+        verify(cartStore, times(1)).markStale(member.getId());
+    }
+
+    private Product createProduct(Long id, int price) {
+        return Product.builder()
+                .id(id)
+                .productName("테스트 상품" + id)
+                .productCode("test-" + id)
+                .productCategory(ProductCategory.CHAIR)
+                .productStatus(ProductStatus.SELLING)
+                .size(new ProductSize(50.7, 102.5, 100.3))
+                .price(price)
+                .stock(10)
+                .description("테스트 상품입니다.")
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package furniture.shop.configure;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+class AopConfigTest {
+
+    SimpleMeterRegistry meterRegistry;
+    SampleService sampleService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new AopConfig(meterRegistry, 1.0));
+
+        sampleService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("메서드 실행 시간 기록 테스트")
+    void 실행_시간_기록_테스트() {
+        sampleService.hello();
+        sampleService.hello();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> sampleService.fail());
+
+        Timer success = meterRegistry.get("app.method").tag("method", "hello").tag("outcome", "success").timer();
+        Timer error = meterRegistry.get("app.method").tag("method", "fail").tag("outcome", "error").timer();
+
+        Assertions.assertEquals(2, success.count());
+        Assertions.assertEquals(1, error.count());
+    }
+
+    static class SampleService {
+        public String hello() {
+            return "hello";
+        }
+
+        public void fail() {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package furniture.shop.configure.jwt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenDenylistTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    TokenDenylist tokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        tokenDenylist = new TokenDenylist(redisTemplate, redisMessageListenerContainer);
+    }
+
+    @Test
+    @DisplayName("동기화 후에는 Redis 조회 없이 로컬에서 확인")
+    void 동기화_후_로컬_확인_테스트() {
+        long expiresAt = System.currentTimeMillis() + 60000;
+
+        when(redisMessageListenerContainer.isRunning()).thenReturn(true);
+        when(redisMessageListenerContainer.isListening()).thenReturn(true);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScoreWithScores(eq("jwt:denylist"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("revoked", (double) expiresAt)));
+
+        tokenDenylist.sync();
+
+        Assertions.assertTrue(tokenDenylist.isRevoked("revoked"));
+        Assertions.assertFalse(tokenDenylist.isRevoked("other"));
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("동기화되지 않은 경우 Redis 에서 확인")
+    void 동기화_실패_Redis_확인_테스트() {
+        when(redisMessageListenerContainer.isRunning()).thenReturn(true);
+        when(redisTemplate.opsForZSet()).thenThrow(new RedisConnectionFailureException("down"));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("token")).thenReturn("logout");
+
+        tokenDenylist.sync();
+
+        Assertions.assertTrue(tokenDenylist.isRevoked("token"));
+        verify(valueOperations).get("token");
+    }
+
+    @Test
+    @DisplayName("다른 서버의 로그아웃 메시지 반영")
+    void 로그아웃_메시지_테스트() {
+        long expiresAt = System.currentTimeMillis() + 60000;
+        byte[] body = (expiresAt + ":token").getBytes(StandardCharsets.UTF_8);
+
+        tokenDenylist.onMessage(new DefaultMessage("jwt:logout".getBytes(StandardCharsets.UTF_8), body), null);
+
+        Assertions.assertTrue(tokenDenylist.isRevoked("token"));
+    }
+}
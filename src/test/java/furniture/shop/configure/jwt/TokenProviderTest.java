@@ -0,0 +1,136 @@
+package furniture.shop.configure.jwt;
+
+import furniture.shop.configure.exception.CustomJWTExceptionCode;
+import furniture.shop.member.Member;
+import furniture.shop.member.MemberRepository;
+import furniture.shop.member.constant.MemberRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenProviderTest {
+
+    @InjectMocks
+    private TokenProvider tokenProvider;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenProvider, "secretKey", "c2VjcmV0LWtleS1mb3ItdG9rZW4tcHJvdmlkZXItdGVzdC0xMjM0NTY3ODkwYWJjZGVm");
+        ReflectionTestUtils.setField(tokenProvider, "accessTokenExpiration", 3600000L);
+        ReflectionTestUtils.setField(tokenProvider, "refreshTokenExpiration", 86400000L);
+        ReflectionTestUtils.setField(tokenProvider, "accessHeader", "Authorization");
+
+        tokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("회원 정보 claim 이 있는 토큰은 DB 조회 없이 인증 정보 생성")
+    void 토큰_claim_인증_테스트() {
+        MemberPrincipal principal = new MemberPrincipal(3L, "test@test.com", "password", MemberRole.ADMIN);
+        String token = tokenProvider.createToken(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        Authentication authentication = tokenProvider.getAuthentication(tokenProvider.parse(token).getClaims());
+        MemberPrincipal result = (MemberPrincipal) authentication.getPrincipal();
+
+        assertEquals(3L, result.getMemberId());
+        assertEquals("test@test.com", authentication.getName());
+        assertEquals(MemberRole.ADMIN, result.getRole());
+        assertTrue(authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        verify(memberRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("회원 정보 claim 이 없는 토큰은 DB 에서 조회")
+    void 이전_토큰_인증_테스트() {
+        User user = (User) User.builder()
+                .username("test@test.com")
+                .password("password")
+                .roles(MemberRole.MEMBER.name())
+                .build();
+
+        String token = tokenProvider.createToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        Member member = Member.builder()
+                .id(5L)
+                .email("test@test.com")
+                .password("password")
+                .build();
+
+        given(memberRepository.findByEmail("test@test.com")).willReturn(member);
+
+        Authentication authentication = tokenProvider.getAuthentication(tokenProvider.parse(token).getClaims());
+
+        assertEquals(5L, ((MemberPrincipal) authentication.getPrincipal()).getMemberId());
+        verify(memberRepository, times(1)).findByEmail("test@test.com");
+    }
+
+    @Test
+    @DisplayName("토큰 파싱 결과 - 유효, 만료, 서명 오류")
+    void 토큰_파싱_테스트() {
+        MemberPrincipal principal = new MemberPrincipal(3L, "test@test.com", "password", MemberRole.MEMBER);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+
+        String token = tokenProvider.createToken(authentication);
+
+        JwtParseResult valid = tokenProvider.parse(token);
+
+        assertTrue(valid.isValid());
+        assertEquals("test@test.com", valid.getClaims().get("email"));
+
+        ReflectionTestUtils.setField(tokenProvider, "accessTokenExpiration", -1000L);
+        JwtParseResult expired = tokenProvider.parse(tokenProvider.createToken(authentication));
+
+        assertTrue(expired.isExpired());
+        assertEquals(3, ((Number) expired.getClaims().get("id")).intValue());
+        assertEquals(CustomJWTExceptionCode.JWT_EXPIRED_ERROR, expired.getErrorCode());
+
+        JwtParseResult invalid = tokenProvider.parse(token.substring(0, token.length() - 2) + "xx");
+
+        assertEquals(JwtParseResult.Status.INVALID, invalid.getStatus());
+        assertEquals(CustomJWTExceptionCode.JWT_SIGN_ERROR, invalid.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("재발급 시에는 토큰 claim 이 아닌 DB 의 현재 권한으로 인증 정보 생성")
+    void 재발급_인증_테스트() {
+        MemberPrincipal principal = new MemberPrincipal(3L, "test@test.com", "password", MemberRole.MEMBER);
+        String token = tokenProvider.createToken(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        Member member = Member.builder()
+                .id(3L)
+                .email("test@test.com")
+                .password("password")
+                .role(MemberRole.ADMIN)
+                .build();
+
+        given(memberRepository.findById(3L)).willReturn(Optional.of(member));
+
+        Authentication authentication = tokenProvider.getReissueAuthentication(tokenProvider.parse(token).getClaims());
+
+        assertEquals(MemberRole.ADMIN, ((MemberPrincipal) authentication.getPrincipal()).getRole());
+        assertTrue(authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+    }
+}
@@ -0,0 +1,191 @@
+package furniture.shop.credit;
+
+import com.siot.IamportRestClient.IamportClient;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+import furniture.shop.credit.dto.CreditRefundRequestDto;
+import furniture.shop.global.embed.Address;
+import furniture.shop.member.Member;
+import furniture.shop.member.MemberRepository;
+import furniture.shop.member.constant.MemberGender;
+import furniture.shop.order.Orders;
+import furniture.shop.order.OrdersProduct;
+import furniture.shop.order.OrdersRepository;
+import furniture.shop.order.contsant.OrdersStatus;
+import furniture.shop.outbox.OutboxEventRepository;
+import furniture.shop.outbox.constant.OutboxEventType;
+import furniture.shop.product.Product;
+import furniture.shop.product.ProductRepository;
+import furniture.shop.product.constant.ProductCategory;
+import furniture.shop.product.embed.ProductSize;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동시에 들어온 환불 요청 테스트 (각 요청이 커밋되어야 하므로 테스트 트랜잭션 없이 실행)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CreditCancelConcurrencyTest {
+
+    private static final String IMP_UID = "imp_concurrent";
+
+    @Autowired
+    private CreditService creditService;
+
+    @Autowired
+    private CreditRepository creditRepository;
+
+    @Autowired
+    private OrdersRepository ordersRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private IamportGateway iamportGateway;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private IamportClient iamportClient;
+
+    private Product product;
+    private Member member;
+    private Orders orders;
+
+    @BeforeEach
+    void setUp() {
+        iamportGateway.evictPayment(IMP_UID);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            product = productRepository.save(Product.builder()
+                    .productCode("code-concurrent")
+                    .productName("concurrent")
+                    .productCategory(ProductCategory.CHAIR)
+                    .stock(100)
+                    .price(10)
+                    .size(new ProductSize(10.5, 10.2, 10.4))
+                    .description("동시 환불 테스트 상품입니다.")
+                    .build());
+
+            member = memberRepository.save(Member.builder()
+                    .username("테스터")
+                    .email("concurrent@test.com")
+                    .password("password")
+                    .phone("01012341234")
+                    .gender(MemberGender.MALE)
+                    .address(new Address("11232", "서울시 서울구 서울로", "11 서울아파트 11동 111호"))
+                    .build());
+
+            // 결제 완료된 주문 (재고 5 차감, 마일리지 100 적립)
+            orders = Orders.createOrders(member);
+            OrdersProduct.createOrdersProduct(orders, product, 5);
+            orders.editTotalPrice(1000);
+            orders.updateOrdersStatus(OrdersStatus.FINISH);
+            ordersRepository.save(orders);
+
+            Credit credit = Credit.createCredit(orders, 1000, MerchantUID.create(orders.getId()), IMP_UID, "card");
+            creditRepository.save(credit);
+
+            member.savedMileage(credit.getSavedMileage());
+            memberRepository.save(member);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventRepository.deleteAll(outboxEventRepository.findAll().stream()
+                    .filter(event -> orders.getId().equals(event.getAggregateId()))
+                    .toList());
+            creditRepository.delete(creditRepository.findByImpUID(IMP_UID));
+            ordersRepository.deleteById(orders.getId());
+            memberRepository.deleteById(member.getId());
+            productRepository.deleteById(product.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 환불 요청은 한 번만 반영 테스트")
+    void 동시_환불_테스트() throws Exception {
+        Payment paid = mock(Payment.class);
+        when(paid.getStatus()).thenReturn("paid");
+
+        IamportResponse<Payment> paymentResponse = mock(IamportResponse.class);
+        when(paymentResponse.getResponse()).thenReturn(paid);
+        when(iamportClient.paymentByImpUid(IMP_UID)).thenReturn(paymentResponse);
+
+        // 두 요청이 모두 아임포트 환불을 마친 후 동시에 반영
+        CountDownLatch cancelled = new CountDownLatch(2);
+
+        when(iamportClient.cancelPaymentByImpUid(any())).thenAnswer(invocation -> {
+            cancelled.countDown();
+            cancelled.await(2, TimeUnit.SECONDS);
+
+            return paymentResponse;
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> first = executorService.submit(() -> creditService.cancelPayment(createRefundRequest()));
+            Future<?> second = executorService.submit(() -> creditService.cancelPayment(createRefundRequest()));
+
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdown();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertEquals(OrdersStatus.CANCEL, ordersRepository.findById(orders.getId()).orElseThrow().getOrdersStatus());
+            assertNotNull(creditRepository.findByImpUID(IMP_UID).getCancelledAt());
+
+            // 재고, 마일리지는 한 번만 반환
+            assertEquals(105, productRepository.findById(product.getId()).orElseThrow().getStock());
+            assertEquals(0, memberRepository.findById(member.getId()).orElseThrow().getMileage());
+
+            assertEquals(1L, outboxEventRepository.findAll().stream()
+                    .filter(event -> event.getEventType() == OutboxEventType.ORDER_CANCELLED)
+                    .filter(event -> orders.getId().equals(event.getAggregateId()))
+                    .count());
+        });
+    }
+
+    private CreditRefundRequestDto createRefundRequest() {
+        CreditRefundRequestDto creditRefundRequestDto = new CreditRefundRequestDto();
+
+        creditRefundRequestDto.setImpUID(IMP_UID);
+
+        return creditRefundRequestDto;
+    }
+}
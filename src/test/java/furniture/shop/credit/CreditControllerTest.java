@@ -19,6 +19,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -34,6 +35,9 @@ class CreditControllerTest {
     @MockBean
     private CreditService creditService;
 
+    @MockBean
+    private PaymentWebhookService paymentWebhookService;
+
     @Test
     @DisplayName("결제 검증 테스트")
     void 결제_검증_테스트() throws Exception {
@@ -67,4 +71,16 @@ class CreditControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("환불이 완료되었습니다."));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("웹훅 수신 테스트")
+    void 웹훅_수신_테스트() throws Exception {
+        mockMvc.perform(post("/credit/webhook")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"imp_uid\":\"imp_1234\",\"merchant_uid\":\"order_1_20241017_uuid\",\"status\":\"paid\"}"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("웹훅을 수신하였습니다."));
+
+        verify(paymentWebhookService).enqueue("imp_1234", "order_1_20241017_uuid", "paid");
+    }
+}
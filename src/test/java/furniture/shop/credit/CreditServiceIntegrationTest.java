@@ -19,6 +19,7 @@ import furniture.shop.order.OrdersRepository;
 import furniture.shop.order.contsant.OrdersStatus;
 import furniture.shop.product.Product;
 import furniture.shop.product.ProductRepository;
+import furniture.shop.product.ProductSellCountService;
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.embed.ProductSize;
 import jakarta.persistence.EntityManager;
@@ -34,6 +35,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -64,6 +66,12 @@ public class CreditServiceIntegrationTest {
     @MockBean
     private IamportClient iamportClient;
 
+    @Autowired
+    private ProductSellCountService productSellCountService;
+
+    @Autowired
+    private IamportGateway iamportGateway;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -74,6 +82,9 @@ public class CreditServiceIntegrationTest {
 
     @BeforeEach
     void setUp() {
+        // 다른 테스트에서 캐시된 결제 조회 결과 제거
+        iamportGateway.evictPayment("imp_1234");
+
         product1 = Product.builder()
                 .productCode("code-1111")
                 .productName("product1111")
@@ -112,6 +123,7 @@ public class CreditServiceIntegrationTest {
         orders = Orders.createOrders(member);
         OrdersProduct.createOrdersProduct(orders, product1, 5);
         OrdersProduct.createOrdersProduct(orders, product2, 10);
+        orders.editTotalPrice(100);
 
         ordersRepository.save(orders);
 
@@ -124,6 +136,8 @@ public class CreditServiceIntegrationTest {
 
         Payment payment = mock(Payment.class);
         when(payment.getStatus()).thenReturn(status);
+        when(payment.getAmount()).thenReturn(BigDecimal.valueOf(100));
+        when(payment.getMerchantUid()).thenReturn(MerchantUID.create(orders.getId()));
         when(iamportClient.paymentByImpUid(any())).thenReturn(paymentResponse);
         when(paymentResponse.getResponse()).thenReturn(payment);
     }
@@ -144,6 +158,12 @@ public class CreditServiceIntegrationTest {
 
         creditService.createAndVerifyPayment(dto);
 
+        // 판매량 변경 기록 반영
+        productSellCountService.flush();
+
+        entityManager.flush();
+        entityManager.clear();
+
         Orders findOrders = ordersRepository.findById(orders.getId()).orElse(null);
 
         assertNotNull(findOrders);
@@ -154,8 +174,9 @@ public class CreditServiceIntegrationTest {
 
         assertNotNull(findProduct1);
         assertNotNull(findProduct2);
-        assertEquals(95, findProduct1.getStock());
-        assertEquals(40, findProduct2.getStock());
+        // 재고는 주문 생성 시 차감되므로 결제 시 변경 X
+        assertEquals(100, findProduct1.getStock());
+        assertEquals(50, findProduct2.getStock());
         assertEquals(5, findProduct1.getSellingCount());
         assertEquals(10, findProduct2.getSellingCount());
 
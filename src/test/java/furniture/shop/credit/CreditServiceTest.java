@@ -1,22 +1,26 @@
 package furniture.shop.credit;
 
-import com.siot.IamportRestClient.IamportClient;
-import com.siot.IamportRestClient.exception.IamportResponseException;
 import com.siot.IamportRestClient.request.CancelData;
-import com.siot.IamportRestClient.response.IamportResponse;
 import com.siot.IamportRestClient.response.Payment;
 import furniture.shop.configure.exception.CustomException;
+import furniture.shop.configure.exception.CustomExceptionCode;
 import furniture.shop.credit.dto.CreditRefundRequestDto;
 import furniture.shop.credit.dto.CreditRequestDto;
 import furniture.shop.credit.dto.PaymentInfoDto;
 import furniture.shop.global.MemberAuthorizationUtil;
+import furniture.shop.global.ShopMetrics;
 import furniture.shop.global.embed.Address;
 import furniture.shop.member.Member;
 import furniture.shop.order.Orders;
 import furniture.shop.order.OrdersProduct;
 import furniture.shop.order.OrdersRepository;
+import furniture.shop.outbox.OutboxPublisher;
+import furniture.shop.outbox.event.PaymentCompleted;
+import furniture.shop.outbox.event.PaymentRefundRequired;
 import furniture.shop.order.contsant.OrdersStatus;
 import furniture.shop.product.Product;
+import furniture.shop.product.ProductSellCountService;
+import furniture.shop.product.ProductStockService;
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
 import furniture.shop.product.embed.ProductSize;
@@ -29,8 +33,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -48,11 +55,29 @@ class CreditServiceTest {
     private CreditRepository creditRepository;
 
     @Mock
-    private IamportClient iamportClient;
+    private IamportGateway iamportGateway;
 
     @Mock
     private MemberAuthorizationUtil memberAuthorizationUtil;
 
+    @Mock
+    private ProductStockService productStockService;
+
+    @Mock
+    private ProductSellCountService productSellCountService;
+
+    @Mock
+    private ShopMetrics shopMetrics;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PaymentIdempotency paymentIdempotency;
+
     @InjectMocks
     private CreditService creditService;
 
@@ -64,7 +89,7 @@ class CreditServiceTest {
 
     @Test
     @DisplayName("결제 실행 및 검증 성공 테스트")
-    void 결제_검증_성공_테스트() throws IamportResponseException, IOException {
+    void 결제_검증_성공_테스트() {
         Long orderId = 0L;
 
         CreditRequestDto dto = new CreditRequestDto();
@@ -75,24 +100,271 @@ class CreditServiceTest {
         dto.setMerchantUID("merchant_1234");
         dto.setImpUID("imp_1234");
 
-        IamportResponse<Payment> paymentResponse = mock(IamportResponse.class);
-
         Payment payment = mock(Payment.class);
         when(payment.getStatus()).thenReturn("paid");
-        when(iamportClient.paymentByImpUid(any())).thenReturn(paymentResponse);
-        when(paymentResponse.getResponse()).thenReturn(payment);
+        when(payment.getAmount()).thenReturn(BigDecimal.valueOf(100000));
+        when(payment.getMerchantUid()).thenReturn(MerchantUID.create(orderId));
+        when(iamportGateway.getPayment(any())).thenReturn(payment);
 
         when(ordersRepository.findById(orderId)).thenReturn(Optional.ofNullable(orders));
+        when(ordersRepository.updateOrdersStatus(orderId, OrdersStatus.READY, OrdersStatus.FINISH)).thenReturn(1);
         when(memberAuthorizationUtil.getMember()).thenReturn(member);
 
         creditService.createAndVerifyPayment(dto);
 
-        verify(ordersRepository, times(1)).findById(orderId);
+        verify(ordersRepository, times(2)).findById(orderId);
         verify(creditRepository, times(1)).save(any(Credit.class));
-        verify(iamportClient, times(1)).paymentByImpUid(anyString());
+        verify(iamportGateway, times(1)).getPayment(anyString());
         verify(memberAuthorizationUtil, times(1)).getMember();
         assertEquals(OrdersStatus.FINISH, orders.getOrdersStatus());
         assertEquals(10000, member.getMileage());
+        verify(productSellCountService, times(1)).increase(orders.getProductCounts());
+        verify(outboxPublisher, times(1)).publish(any(PaymentCompleted.class));
+    }
+
+    @Test
+    @DisplayName("결제 금액, 가맹점 주문 번호가 주문과 다른 경우 실패 테스트")
+    void 결제_위변조_실패_테스트() {
+        Long orderId = 0L;
+
+        CreditRequestDto dto = new CreditRequestDto();
+
+        dto.setAmount(100000);
+        dto.setPayMethod("card");
+        dto.setOrderId(orderId);
+        dto.setMerchantUID(MerchantUID.create(orderId));
+        dto.setImpUID("imp_1234");
+
+        // 주문 금액보다 적은 금액 결제
+        Payment underpaid = mock(Payment.class);
+        when(underpaid.getStatus()).thenReturn("paid");
+        when(underpaid.getAmount()).thenReturn(BigDecimal.valueOf(100));
+
+        // 다른 주문의 가맹점 주문 번호로 결제
+        Payment otherOrder = mock(Payment.class);
+        when(otherOrder.getStatus()).thenReturn("paid");
+        when(otherOrder.getAmount()).thenReturn(BigDecimal.valueOf(100000));
+        when(otherOrder.getMerchantUid()).thenReturn(MerchantUID.create(1L));
+
+        when(iamportGateway.getPayment("imp_1234")).thenReturn(underpaid, otherOrder);
+
+        when(ordersRepository.findById(orderId)).thenReturn(Optional.ofNullable(orders));
+        when(ordersRepository.updateOrdersStatus(orderId, OrdersStatus.READY, OrdersStatus.FINISH)).thenReturn(1);
+        when(memberAuthorizationUtil.getMember()).thenReturn(member);
+
+        CustomException underpaidException = assertThrows(CustomException.class, () -> creditService.createAndVerifyPayment(dto));
+        CustomException otherOrderException = assertThrows(CustomException.class, () -> creditService.createAndVerifyPayment(dto));
+
+        assertEquals(CustomExceptionCode.NOT_VALID_PAYMENT, underpaidException.getCode());
+        assertEquals(CustomExceptionCode.NOT_VALID_PAYMENT, otherOrderException.getCode());
+        verify(creditRepository, never()).save(any());
+        verify(productSellCountService, never()).increase(any());
+        verify(outboxPublisher, never()).publish(any());
+        assertEquals(0, member.getMileage());
+    }
+
+    @Test
+    @DisplayName("결제 검증 중 주문이 만료된 경우 결제 환불 테스트")
+    void 만료_주문_결제_환불_테스트() {
+        Long orderId = 0L;
+
+        CreditRequestDto dto = new CreditRequestDto();
+
+        dto.setAmount(100000);
+        dto.setPayMethod("card");
+        dto.setOrderId(orderId);
+        dto.setMerchantUID(MerchantUID.create(orderId));
+        dto.setImpUID("imp_1234");
+
+        Payment payment = mock(Payment.class);
+        when(payment.getStatus()).thenReturn("paid");
+        when(payment.getMerchantUid()).thenReturn(dto.getMerchantUID());
+        when(iamportGateway.getPayment("imp_1234")).thenReturn(payment);
+
+        when(ordersRepository.findById(orderId)).thenReturn(Optional.ofNullable(orders));
+        when(memberAuthorizationUtil.getMember()).thenReturn(member);
+
+        // 아임포트 결제 조회 후 결제 반영 전에 만료 취소
+        when(ordersRepository.updateOrdersStatus(orderId, OrdersStatus.READY, OrdersStatus.FINISH)).thenAnswer(invocation -> {
+            orders.updateOrdersStatus(OrdersStatus.CANCEL);
+
+            return 0;
+        });
+
+        CustomException customException = assertThrows(CustomException.class, () -> creditService.createAndVerifyPayment(dto));
+
+        assertEquals(CustomExceptionCode.EXPIRED_ORDER, customException.getCode());
+        verify(iamportGateway, times(1)).cancelPayment(eq("imp_1234"), any(CancelData.class));
+        verify(creditRepository, never()).save(any());
+        verify(outboxPublisher, never()).publish(any());
+        assertEquals(0, member.getMileage());
+    }
+
+    @Test
+    @DisplayName("만료된 주문의 결제 환불 실패 시 환불 필요 이벤트 기록 테스트")
+    void 만료_주문_결제_환불_실패_테스트() {
+        Long orderId = 0L;
+
+        CreditRequestDto dto = new CreditRequestDto();
+
+        dto.setAmount(100000);
+        dto.setPayMethod("card");
+        dto.setOrderId(orderId);
+        dto.setMerchantUID(MerchantUID.create(orderId));
+        dto.setImpUID("imp_1234");
+
+        // 결제 완료 요청 전에 만료 취소된 주문
+        orders.updateOrdersStatus(OrdersStatus.CANCEL);
+
+        Payment payment = mock(Payment.class);
+        when(payment.getStatus()).thenReturn("paid");
+        when(payment.getAmount()).thenReturn(BigDecimal.valueOf(100000));
+        when(payment.getMerchantUid()).thenReturn(dto.getMerchantUID());
+        when(iamportGateway.getPayment("imp_1234")).thenReturn(payment);
+        when(iamportGateway.cancelPayment(anyString(), any(CancelData.class))).thenThrow(new IamportGatewayException("아임포트 응답 시간 초과"));
+
+        when(ordersRepository.findById(orderId)).thenReturn(Optional.ofNullable(orders));
+        when(memberAuthorizationUtil.getMember()).thenReturn(member);
+
+        CustomException customException = assertThrows(CustomException.class, () -> creditService.createAndVerifyPayment(dto));
+
+        assertEquals(CustomExceptionCode.EXPIRED_ORDER, customException.getCode());
+        verify(outboxPublisher, times(1)).publish(any(PaymentRefundRequired.class));
+        verify(creditRepository, never()).save(any());
+        assertEquals(OrdersStatus.CANCEL, orders.getOrdersStatus());
+    }
+
+    @Test
+    @DisplayName("웹훅 결제 확정 성공 테스트")
+    void 웹훅_결제_확정_성공_테스트() {
+        Long orderId = 0L;
+
+        Payment payment = mock(Payment.class);
+        when(payment.getStatus()).thenReturn("paid");
+        when(payment.getMerchantUid()).thenReturn(MerchantUID.create(orderId));
+        when(payment.getAmount()).thenReturn(BigDecimal.valueOf(100000));
+        when(payment.getPayMethod()).thenReturn("card");
+        when(iamportGateway.getPayment("imp_1234")).thenReturn(payment);
+
+        when(ordersRepository.findById(orderId)).thenReturn(Optional.ofNullable(orders));
+        when(ordersRepository.updateOrdersStatus(orderId, OrdersStatus.READY, OrdersStatus.FINISH)).thenReturn(1);
+
+        creditService.confirmWebhookPayment("imp_1234");
+
+        verify(creditRepository, times(1)).save(any(Credit.class));
+        verify(memberAuthorizationUtil, never()).getMember();
+        assertEquals(OrdersStatus.FINISH, orders.getOrdersStatus());
+        assertEquals(10000, member.getMileage());
+    }
+
+    @Test
+    @DisplayName("웹훅 결제 완료가 아닌 알림 무시 테스트")
+    void 웹훅_결제_미완료_무시_테스트() {
+        Payment payment = mock(Payment.class);
+        when(payment.getStatus()).thenReturn("ready");
+        when(iamportGateway.getPayment("imp_1234")).thenReturn(payment);
+
+        creditService.confirmWebhookPayment("imp_1234");
+
+        verify(ordersRepository, never()).findById(any());
+        verify(creditRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("웹훅 주문 번호 없는 결제 실패 테스트")
+    void 웹훅_주문번호_없음_실패_테스트() {
+        Payment payment = mock(Payment.class);
+        when(payment.getStatus()).thenReturn("paid");
+        when(payment.getMerchantUid()).thenReturn(MerchantUID.create(null));
+        when(iamportGateway.getPayment("imp_1234")).thenReturn(payment);
+
+        assertThrows(CustomException.class, () -> creditService.confirmWebhookPayment("imp_1234"));
+
+        verify(creditRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("웹훅 아임포트에 없는 결제 실패 테스트")
+    void 웹훅_결제_정보_없음_실패_테스트() {
+        when(iamportGateway.getPayment("imp_1234")).thenThrow(new IamportNotFoundException("not found", null));
+
+        CustomException exception = assertThrows(CustomException.class, () -> creditService.confirmWebhookPayment("imp_1234"));
+
+        // 재시도하지 않는 실패
+        assertEquals(CustomExceptionCode.NOT_VALID_PAYMENT, exception.getCode());
+        verify(ordersRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("이미 완료된 결제 재요청 테스트")
+    void 결제_재요청_테스트() {
+        CreditRequestDto dto = new CreditRequestDto();
+
+        dto.setAmount(100000);
+        dto.setPayMethod("card");
+        dto.setOrderId(0L);
+        dto.setMerchantUID("merchant_1234");
+        dto.setImpUID("imp_1234");
+
+        when(paymentIdempotency.acquire("imp_1234", 0L)).thenReturn(PaymentIdempotency.Result.COMPLETED);
+        when(ordersRepository.findById(0L)).thenReturn(Optional.ofNullable(orders));
+        when(memberAuthorizationUtil.getMember()).thenReturn(member);
+
+        creditService.createAndVerifyPayment(dto);
+
+        verify(iamportGateway, never()).getPayment(any());
+        verify(creditRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("이미 완료된 결제 재요청 실패 테스트 - 다른 회원의 주문")
+    void 결제_재요청_다른_회원_테스트() {
+        CreditRequestDto dto = new CreditRequestDto();
+
+        dto.setAmount(100000);
+        dto.setPayMethod("card");
+        dto.setOrderId(0L);
+        dto.setMerchantUID("merchant_1234");
+        dto.setImpUID("imp_1234");
+
+        Member other = Member.builder()
+                .id(99L)
+                .email("other@test.com")
+                .password("123456")
+                .build();
+
+        when(paymentIdempotency.acquire("imp_1234", 0L)).thenReturn(PaymentIdempotency.Result.COMPLETED);
+        when(ordersRepository.findById(0L)).thenReturn(Optional.ofNullable(orders));
+        when(memberAuthorizationUtil.getMember()).thenReturn(other);
+
+        assertThrows(CustomException.class, () -> creditService.createAndVerifyPayment(dto));
+
+        verify(iamportGateway, never()).getPayment(any());
+    }
+
+    @Test
+    @DisplayName("같은 결제로 완료된 주문 재요청 테스트 (Redis 기록 없음)")
+    void 결제_완료_주문_재요청_테스트() {
+        CreditRequestDto dto = new CreditRequestDto();
+
+        dto.setAmount(100000);
+        dto.setPayMethod("card");
+        dto.setOrderId(0L);
+        dto.setMerchantUID("mer_1234");
+        dto.setImpUID("imp_1234");
+
+        orders.updateOrdersStatus(OrdersStatus.FINISH);
+
+        when(paymentIdempotency.acquire("imp_1234", 0L)).thenReturn(PaymentIdempotency.Result.ACQUIRED);
+        when(ordersRepository.findById(0L)).thenReturn(Optional.ofNullable(orders));
+        when(memberAuthorizationUtil.getMember()).thenReturn(member);
+        when(creditRepository.findByOrdersId(0L)).thenReturn(credit);
+
+        creditService.createAndVerifyPayment(dto);
+
+        verify(iamportGateway, never()).getPayment(any());
+        verify(creditRepository, never()).save(any());
+        verify(paymentIdempotency, times(1)).complete("imp_1234", 0L);
     }
 
     @Test
@@ -177,7 +449,7 @@ class CreditServiceTest {
 
     @Test
     @DisplayName("결제 실패 테스트")
-    void 결제_실패_테스트() throws IamportResponseException, IOException {
+    void 결제_실패_테스트() {
         Long orderId = 0L;
 
         CreditRequestDto dto = new CreditRequestDto();
@@ -193,22 +465,19 @@ class CreditServiceTest {
 
         Payment payment = mock(Payment.class);
         when(payment.getStatus()).thenReturn("failed");
-
-        IamportResponse<Payment> paymentResponse = mock(IamportResponse.class);
-        when(iamportClient.paymentByImpUid(anyString())).thenReturn(paymentResponse);
-        when(paymentResponse.getResponse()).thenReturn(payment);
+        when(iamportGateway.getPayment(anyString())).thenReturn(payment);
 
         assertThrows(CustomException.class, () -> creditService.createAndVerifyPayment(dto));
 
         verify(ordersRepository, times(1)).findById(orderId);
         verify(creditRepository, never()).save(any(Credit.class));
-        verify(iamportClient, times(1)).paymentByImpUid(anyString());
+        verify(iamportGateway, times(1)).getPayment(anyString());
         verify(memberAuthorizationUtil, times(1)).getMember();
     }
 
     @Test
     @DisplayName("환불 성공 테스트")
-    void 환불_성공_테스트() throws IamportResponseException, IOException {
+    void 환불_성공_테스트() {
         CreditRefundRequestDto dto = new CreditRefundRequestDto();
 
         dto.setImpUID("imp_1234");
@@ -221,18 +490,17 @@ class CreditServiceTest {
 
         Payment payment = mock(Payment.class);
         when(payment.getStatus()).thenReturn("paid");
+        when(iamportGateway.getPayment(any())).thenReturn(payment);
+        when(iamportGateway.cancelPayment(anyString(), any(CancelData.class))).thenReturn(payment);
 
-        IamportResponse<Payment> paymentResponse = mock(IamportResponse.class);
-        when(iamportClient.paymentByImpUid(any())).thenReturn(paymentResponse);
-        when(paymentResponse.getResponse()).thenReturn(payment);
-        when(iamportClient.cancelPaymentByImpUid(any(CancelData.class))).thenReturn(paymentResponse);
+        when(ordersRepository.updateOrdersStatus(0L, OrdersStatus.FINISH, OrdersStatus.CANCEL)).thenReturn(1);
 
         creditService.cancelPayment(dto);
 
         assertEquals(OrdersStatus.CANCEL, orders.getOrdersStatus());
         assertNotNull(credit.getCancelledAt());
-        assertEquals(20, product.getStock());
-        assertEquals(-10, product.getSellingCount());
+        verify(productStockService, times(1)).release(orders.getProductCounts());
+        verify(productSellCountService, times(1)).decrease(orders.getProductCounts());
         assertEquals(-10000, member.getMileage());
     }
 
@@ -254,7 +522,7 @@ class CreditServiceTest {
 
     @Test
     @DisplayName("환불 실패 (결제상태가 아님) 테스트")
-    void 환불_실패_결제상태아님() throws IamportResponseException, IOException {
+    void 환불_실패_결제상태아님() {
         CreditRefundRequestDto dto = new CreditRefundRequestDto();
 
         dto.setImpUID("imp_1234");
@@ -266,13 +534,83 @@ class CreditServiceTest {
         when(creditRepository.findByImpUID(anyString())).thenReturn(credit);
 
         Payment payment = mock(Payment.class);
-        when(payment.getStatus()).thenReturn("cancelled");
+        when(payment.getStatus()).thenReturn("ready");
+        when(iamportGateway.getPayment(any())).thenReturn(payment);
+
+        assertThrows(CustomException.class, () -> creditService.cancelPayment(dto));
+        verify(iamportGateway, never()).cancelPayment(any(), any());
+    }
+
+    @Test
+    @DisplayName("환불 요청 시간 초과 후 아임포트에서 취소된 경우 환불 반영 테스트")
+    void 환불_시간초과_반영_테스트() {
+        CreditRefundRequestDto dto = new CreditRefundRequestDto();
+
+        dto.setImpUID("imp_1234");
+        dto.setReason("단순 변심");
+
+        when(creditRepository.findByImpUID(anyString())).thenReturn(credit);
+
+        Payment paid = mock(Payment.class);
+        when(paid.getStatus()).thenReturn("paid");
+
+        Payment cancelled = mock(Payment.class);
+        when(cancelled.getStatus()).thenReturn("cancelled");
+
+        when(iamportGateway.getPayment("imp_1234")).thenReturn(paid, cancelled);
+        when(iamportGateway.cancelPayment(anyString(), any(CancelData.class))).thenThrow(new IamportGatewayException("아임포트 응답 시간 초과"));
+
+        when(ordersRepository.updateOrdersStatus(0L, OrdersStatus.FINISH, OrdersStatus.CANCEL)).thenReturn(1);
+
+        creditService.cancelPayment(dto);
+
+        assertEquals(OrdersStatus.CANCEL, orders.getOrdersStatus());
+        assertNotNull(credit.getCancelledAt());
+        verify(productStockService, times(1)).release(orders.getProductCounts());
+        verify(iamportGateway, times(2)).getPayment("imp_1234");
+    }
+
+    @Test
+    @DisplayName("환불 요청 시간 초과 후 취소되지 않은 경우 실패 테스트")
+    void 환불_시간초과_실패_테스트() {
+        CreditRefundRequestDto dto = new CreditRefundRequestDto();
 
-        IamportResponse<Payment> paymentResponse = mock(IamportResponse.class);
-        when(iamportClient.paymentByImpUid(any())).thenReturn(paymentResponse);
-        when(paymentResponse.getResponse()).thenReturn(payment);
+        dto.setImpUID("imp_1234");
+
+        when(creditRepository.findByImpUID(anyString())).thenReturn(credit);
+
+        Payment paid = mock(Payment.class);
+        when(paid.getStatus()).thenReturn("paid");
+
+        when(iamportGateway.getPayment("imp_1234")).thenReturn(paid);
+        when(iamportGateway.cancelPayment(anyString(), any(CancelData.class))).thenThrow(new IamportGatewayException("아임포트 응답 시간 초과"));
 
         assertThrows(CustomException.class, () -> creditService.cancelPayment(dto));
+
+        assertNull(credit.getCancelledAt());
+        verify(productStockService, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("아임포트에서 취소되었지만 반영되지 않은 결제 재요청 시 환불 반영 테스트")
+    void 환불_재요청_반영_테스트() {
+        CreditRefundRequestDto dto = new CreditRefundRequestDto();
+
+        dto.setImpUID("imp_1234");
+
+        when(creditRepository.findByImpUID(anyString())).thenReturn(credit);
+
+        Payment cancelled = mock(Payment.class);
+        when(cancelled.getStatus()).thenReturn("cancelled");
+        when(iamportGateway.getPayment("imp_1234")).thenReturn(cancelled);
+
+        when(ordersRepository.updateOrdersStatus(0L, OrdersStatus.FINISH, OrdersStatus.CANCEL)).thenReturn(1);
+
+        creditService.cancelPayment(dto);
+
+        assertEquals(OrdersStatus.CANCEL, orders.getOrdersStatus());
+        assertNotNull(credit.getCancelledAt());
+        verify(iamportGateway, never()).cancelPayment(any(), any());
     }
 
     @Test
@@ -316,6 +654,10 @@ class CreditServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 트랜잭션 구간은 바로 실행
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
         member = Member.builder()
                 .address(new Address("12345", "서울시 강남구 강남대로 114", "테스트 빌딩 5층"))
                 .email("test@test.com")
@@ -340,6 +682,8 @@ class CreditServiceTest {
 
         orders = Orders.createOrders(member);
         ordersProduct = OrdersProduct.createOrdersProduct(orders, product, 10);
+        orders.editTotalPrice(100000);
+        ReflectionTestUtils.setField(orders, "id", 0L);
         credit = Credit.createCredit(orders, 100000, "mer_1234", "imp_1234", "card");
     }
 
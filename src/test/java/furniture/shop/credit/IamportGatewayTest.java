@@ -0,0 +1,192 @@
+package furniture.shop.credit;
+
+import com.siot.IamportRestClient.IamportClient;
+import com.siot.IamportRestClient.exception.IamportResponseException;
+import com.siot.IamportRestClient.request.CancelData;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+import furniture.shop.global.ShopMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IamportGatewayTest {
+
+    @Mock
+    private IamportClient iamportClient;
+
+    IamportGateway iamportGateway;
+
+    @BeforeEach
+    void setUp() {
+        // 시간 제한 100ms, 동시 호출 2, 최대 3회 시도, backoff 10ms, 연속 3회 실패 시 1분 차단
+        iamportGateway = new IamportGateway(iamportClient, new ShopMetrics(new SimpleMeterRegistry()),
+                100L, 2, 3, 10L, 3, 60000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        iamportGateway.shutdown();
+    }
+
+    @Test
+    @DisplayName("결제 조회 네트워크 오류 시 재시도 테스트")
+    void 결제_조회_재시도_테스트() throws IamportResponseException, IOException {
+        Payment payment = mock(Payment.class);
+        IamportResponse<Payment> response = mock(IamportResponse.class);
+        when(response.getResponse()).thenReturn(payment);
+
+        when(iamportClient.paymentByImpUid("imp_1234"))
+                .thenThrow(new IOException("connection reset"))
+                .thenReturn(response);
+
+        assertSame(payment, iamportGateway.getPayment("imp_1234"));
+        verify(iamportClient, times(2)).paymentByImpUid("imp_1234");
+    }
+
+    @Test
+    @DisplayName("응답 오류는 재시도하지 않음")
+    void 응답_오류_테스트() throws IamportResponseException, IOException {
+        when(iamportClient.paymentByImpUid("imp_1234")).thenThrow(new IamportResponseException("not found", null));
+
+        assertThrows(IamportGatewayException.class, () -> iamportGateway.getPayment("imp_1234"));
+        verify(iamportClient, times(1)).paymentByImpUid("imp_1234");
+    }
+
+    @Test
+    @DisplayName("없는 결제 조회 시 호출 차단하지 않음 테스트")
+    void 결제_정보_없음_테스트() throws IamportResponseException, IOException {
+        IamportResponseException notFound = mock(IamportResponseException.class);
+        when(notFound.getHttpStatusCode()).thenReturn(404);
+
+        when(iamportClient.paymentByImpUid(anyString())).thenThrow(notFound);
+
+        // 연속 실패 기준(3회)을 넘어도 응답 오류는 차단하지 않음
+        for (int i = 0; i < 5; i++) {
+            String impUID = "imp_" + i;
+
+            assertThrows(IamportNotFoundException.class, () -> iamportGateway.getPayment(impUID));
+        }
+
+        verify(iamportClient, times(5)).paymentByImpUid(anyString());
+    }
+
+    @Test
+    @DisplayName("응답 시간 초과 후 연속 실패 시 호출 차단 테스트")
+    void 시간_초과_차단_테스트() throws IamportResponseException, IOException {
+        when(iamportClient.paymentByImpUid("imp_1234")).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+
+            return null;
+        });
+
+        assertThrows(IamportGatewayException.class, () -> iamportGateway.getPayment("imp_1234"));
+
+        // 3회 시간 초과로 차단되어 더 이상 호출하지 않음
+        assertThrows(IamportGatewayException.class, () -> iamportGateway.cancelPayment("imp_1234", new CancelData("imp_1234", true, null)));
+        verify(iamportClient, times(3)).paymentByImpUid("imp_1234");
+        verify(iamportClient, never()).cancelPaymentByImpUid(any());
+    }
+
+    @Test
+    @DisplayName("같은 결제 동시 조회 시 한 번만 호출 테스트")
+    void 결제_조회_중복_제거_테스트() throws Exception {
+        Payment payment = mock(Payment.class);
+        IamportResponse<Payment> response = mock(IamportResponse.class);
+        when(response.getResponse()).thenReturn(payment);
+
+        CountDownLatch called = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(iamportClient.paymentByImpUid("imp_1234")).thenAnswer(invocation -> {
+            called.countDown();
+            release.await();
+
+            return response;
+        });
+
+        iamportGateway.shutdown();
+        iamportGateway = new IamportGateway(iamportClient, new ShopMetrics(new SimpleMeterRegistry()),
+                5000L, 2, 3, 10L, 3, 60000L);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        Future<Payment> first = executorService.submit(() -> iamportGateway.getPayment("imp_1234"));
+        called.await();
+        Future<Payment> second = executorService.submit(() -> iamportGateway.getPayment("imp_1234"));
+
+        Thread.sleep(100);
+        release.countDown();
+
+        assertSame(payment, first.get());
+        assertSame(payment, second.get());
+
+        // 조회 결과 캐시
+        assertSame(payment, iamportGateway.getPayment("imp_1234"));
+        verify(iamportClient, times(1)).paymentByImpUid("imp_1234");
+
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 호출 수 초과 시 바로 실패, 호출이 끝나면 다시 호출 테스트")
+    void 동시_호출_제한_테스트() throws Exception {
+        Payment payment = mock(Payment.class);
+        IamportResponse<Payment> response = mock(IamportResponse.class);
+        when(response.getResponse()).thenReturn(payment);
+
+        CountDownLatch called = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(iamportClient.paymentByImpUid(anyString())).thenAnswer(invocation -> {
+            called.countDown();
+            release.await();
+
+            return response;
+        });
+        when(iamportClient.cancelPaymentByImpUid(any())).thenReturn(response);
+
+        iamportGateway.shutdown();
+        iamportGateway = new IamportGateway(iamportClient, new ShopMetrics(new SimpleMeterRegistry()),
+                5000L, 2, 3, 10L, 3, 60000L);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        Future<Payment> first = executorService.submit(() -> iamportGateway.getPayment("imp_1"));
+        Future<Payment> second = executorService.submit(() -> iamportGateway.getPayment("imp_2"));
+        called.await();
+
+        // 동시 호출 2건 진행 중
+        assertThrows(IamportGatewayException.class, () -> iamportGateway.cancelPayment("imp_3", new CancelData("imp_3", true, null)));
+        verify(iamportClient, never()).cancelPaymentByImpUid(any());
+
+        release.countDown();
+
+        assertSame(payment, first.get());
+        assertSame(payment, second.get());
+
+        // 끝난 호출 직후 이어지는 호출은 모두 성공
+        for (int i = 0; i < 10; i++) {
+            String impUID = "imp_cancel_" + i;
+
+            assertSame(payment, iamportGateway.cancelPayment(impUID, new CancelData(impUID, true, null)));
+        }
+
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,88 @@
+package furniture.shop.credit;
+
+import furniture.shop.configure.exception.CustomException;
+import furniture.shop.configure.exception.CustomExceptionCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentIdempotencyTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    PaymentIdempotency paymentIdempotency;
+
+    @BeforeEach
+    void setUp() {
+        paymentIdempotency = new PaymentIdempotency(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("첫 요청 처리 테스트")
+    void 첫_요청_테스트() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("credit:complete:imp_1"), eq("PROCESSING:1"), any(Duration.class))).thenReturn(true);
+
+        assertEquals(PaymentIdempotency.Result.ACQUIRED, paymentIdempotency.acquire("imp_1", 1L));
+    }
+
+    @Test
+    @DisplayName("완료된 요청 재시도 테스트")
+    void 완료_요청_테스트() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(any(), any(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get("credit:complete:imp_1")).thenReturn("COMPLETED:1");
+
+        assertEquals(PaymentIdempotency.Result.COMPLETED, paymentIdempotency.acquire("imp_1", 1L));
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청 중복 테스트")
+    void 처리중_요청_테스트() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(any(), any(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get("credit:complete:imp_1")).thenReturn("PROCESSING:1");
+
+        CustomException customException = assertThrows(CustomException.class, () -> paymentIdempotency.acquire("imp_1", 1L));
+        assertEquals(CustomExceptionCode.PAYMENT_IN_PROGRESS, customException.getCode());
+    }
+
+    @Test
+    @DisplayName("다른 주문에 같은 결제번호 사용 테스트")
+    void 다른_주문_테스트() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(any(), any(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get("credit:complete:imp_1")).thenReturn("COMPLETED:2");
+
+        CustomException customException = assertThrows(CustomException.class, () -> paymentIdempotency.acquire("imp_1", 1L));
+        assertEquals(CustomExceptionCode.NOT_VALID_ERROR, customException.getCode());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 사용하지 않음 테스트")
+    void Redis_장애_테스트() {
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(PaymentIdempotency.Result.UNAVAILABLE, paymentIdempotency.acquire("imp_1", 1L));
+        assertEquals(PaymentIdempotency.Result.UNAVAILABLE, paymentIdempotency.acquire("imp_1", 1L));
+        verify(redisTemplate, times(1)).opsForValue();
+    }
+}
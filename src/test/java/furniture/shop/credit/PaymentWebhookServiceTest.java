@@ -0,0 +1,170 @@
+package furniture.shop.credit;
+
+import furniture.shop.configure.exception.CustomException;
+import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.credit.constant.PaymentWebhookStatus;
+import furniture.shop.order.OrdersRepository;
+import furniture.shop.order.contsant.OrdersStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentWebhookServiceTest {
+
+    @Mock
+    private PaymentWebhookRepository paymentWebhookRepository;
+
+    @Mock
+    private OrdersRepository ordersRepository;
+
+    @Mock
+    private CreditService creditService;
+
+    private PaymentWebhookService paymentWebhookService;
+
+    @BeforeEach
+    void setUp() {
+        paymentWebhookService = new PaymentWebhookService(paymentWebhookRepository, ordersRepository, creditService, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentWebhookService.shutdown();
+    }
+
+    @Test
+    @DisplayName("웹훅 수신 시 대기열 저장 테스트")
+    void 웹훅_수신_테스트() {
+        String merchantUID = MerchantUID.create(1L);
+
+        when(ordersRepository.existsByIdAndOrdersStatusAndMerchantUID(1L, OrdersStatus.READY, merchantUID)).thenReturn(true);
+        when(paymentWebhookRepository.existsByImpUID("imp_1234")).thenReturn(false);
+
+        paymentWebhookService.enqueue("imp_1234", merchantUID, "paid");
+
+        verify(paymentWebhookRepository, times(1)).save(any(PaymentWebhook.class));
+    }
+
+    @Test
+    @DisplayName("같은 결제 웹훅 중복 수신 테스트")
+    void 웹훅_중복_수신_테스트() {
+        String merchantUID = MerchantUID.create(1L);
+
+        when(ordersRepository.existsByIdAndOrdersStatusAndMerchantUID(1L, OrdersStatus.READY, merchantUID)).thenReturn(true);
+        when(paymentWebhookRepository.existsByImpUID("imp_1234")).thenReturn(true, false);
+        when(paymentWebhookRepository.save(any(PaymentWebhook.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        paymentWebhookService.enqueue("imp_1234", merchantUID, "paid");
+        paymentWebhookService.enqueue("imp_1234", merchantUID, "paid");
+
+        verify(paymentWebhookRepository, times(1)).save(any(PaymentWebhook.class));
+    }
+
+    @Test
+    @DisplayName("결제 대기 중인 주문에 발급한 번호가 아닌 웹훅 무시 테스트")
+    void 웹훅_주문_확인_테스트() {
+        // 주문 ID 만 맞춘 번호 (주문에 발급한 번호와 다름)
+        String guessedUID = MerchantUID.create(1L);
+
+        when(ordersRepository.existsByIdAndOrdersStatusAndMerchantUID(1L, OrdersStatus.READY, guessedUID)).thenReturn(false);
+
+        paymentWebhookService.enqueue("imp_1234", guessedUID, "paid");
+        // 주문 ID 가 없는 가맹점 주문 번호
+        paymentWebhookService.enqueue("imp_5678", "merchant_1234", "paid");
+
+        verify(ordersRepository, times(1)).existsByIdAndOrdersStatusAndMerchantUID(any(), any(), any());
+        verify(paymentWebhookRepository, never()).existsByImpUID(any());
+        verify(paymentWebhookRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("결제 완료가 아닌 웹훅 무시 테스트")
+    void 웹훅_결제_미완료_무시_테스트() {
+        paymentWebhookService.enqueue("imp_1234", MerchantUID.create(1L), "ready");
+
+        verify(ordersRepository, never()).existsByIdAndOrdersStatusAndMerchantUID(any(), any(), any());
+        verify(paymentWebhookRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("결제 번호 없는 웹훅 실패 테스트")
+    void 웹훅_결제번호_없음_테스트() {
+        assertThrows(CustomException.class, () -> paymentWebhookService.enqueue(" ", "merchant_1234", "paid"));
+
+        verify(paymentWebhookRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("대기열 처리 성공 테스트")
+    void 대기열_처리_성공_테스트() {
+        PaymentWebhook webhook1 = PaymentWebhook.createPaymentWebhook("imp_1", "merchant_1");
+        PaymentWebhook webhook2 = PaymentWebhook.createPaymentWebhook("imp_2", "merchant_2");
+
+        when(paymentWebhookRepository.findReadyIds(eq(PaymentWebhookStatus.WAITING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(paymentWebhookRepository.claim(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(paymentWebhookRepository.claim(eq(2L), any(LocalDateTime.class))).thenReturn(1);
+        // 다른 서버가 먼저 가져간 건
+        when(paymentWebhookRepository.claim(eq(3L), any(LocalDateTime.class))).thenReturn(0);
+        when(paymentWebhookRepository.findById(1L)).thenReturn(Optional.of(webhook1));
+        when(paymentWebhookRepository.findById(2L)).thenReturn(Optional.of(webhook2));
+
+        assertEquals(2, paymentWebhookService.process());
+
+        verify(creditService, times(1)).confirmWebhookPayment("imp_1");
+        verify(creditService, times(1)).confirmWebhookPayment("imp_2");
+        verify(paymentWebhookRepository, times(1)).finish(1L, PaymentWebhookStatus.DONE);
+        verify(paymentWebhookRepository, times(1)).finish(2L, PaymentWebhookStatus.DONE);
+        verify(paymentWebhookRepository, never()).findById(3L);
+    }
+
+    @Test
+    @DisplayName("아임포트 오류 시 재시도 테스트")
+    void 대기열_재시도_테스트() {
+        PaymentWebhook webhook = PaymentWebhook.createPaymentWebhook("imp_1", "merchant_1");
+
+        when(paymentWebhookRepository.findReadyIds(eq(PaymentWebhookStatus.WAITING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L));
+        when(paymentWebhookRepository.claim(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(paymentWebhookRepository.findById(1L)).thenReturn(Optional.of(webhook));
+        doThrow(new CustomException(CustomExceptionCode.FAIL_PAYMENT)).when(creditService).confirmWebhookPayment("imp_1");
+
+        paymentWebhookService.process();
+
+        verify(paymentWebhookRepository, times(1)).retryLater(eq(1L), any(LocalDateTime.class));
+        verify(paymentWebhookRepository, never()).finish(any(), any());
+    }
+
+    @Test
+    @DisplayName("결제할 수 없는 주문 실패 처리 테스트")
+    void 대기열_실패_테스트() {
+        PaymentWebhook webhook = PaymentWebhook.createPaymentWebhook("imp_1", "merchant_1");
+
+        when(paymentWebhookRepository.findReadyIds(eq(PaymentWebhookStatus.WAITING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L));
+        when(paymentWebhookRepository.claim(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(paymentWebhookRepository.findById(1L)).thenReturn(Optional.of(webhook));
+        doThrow(new CustomException(CustomExceptionCode.NOT_VALID_ERROR)).when(creditService).confirmWebhookPayment("imp_1");
+
+        paymentWebhookService.process();
+
+        verify(paymentWebhookRepository, times(1)).finish(1L, PaymentWebhookStatus.FAILED);
+        verify(paymentWebhookRepository, never()).retryLater(any(), any());
+    }
+}
@@ -0,0 +1,47 @@
+package furniture.shop.global;
+
+import furniture.shop.cart.CartStore;
+import furniture.shop.cart.CartWriteBehind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartWriteBehindSchedulingTest {
+
+    @InjectMocks
+    CartWriteBehindScheduling cartWriteBehindScheduling;
+
+    @Mock
+    CartStore cartStore;
+
+    @Mock
+    CartWriteBehind cartWriteBehind;
+
+    @Test
+    @DisplayName("반영을 마친 회원만 반영 중 목록에서 삭제 테스트")
+    void 장바구니_반영_완료_테스트() {
+        when(cartStore.isAvailable()).thenReturn(true);
+        when(cartStore.popDirty(anyInt())).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(cartWriteBehind.flush(1L)).thenReturn(true);
+        when(cartWriteBehind.flush(2L)).thenThrow(new IllegalStateException("db error"));
+        // Redis 오류
+        when(cartWriteBehind.flush(3L)).thenReturn(false);
+
+        cartWriteBehindScheduling.run();
+
+        // 실패한 회원은 반영 대기 목록으로 되돌림
+        verify(cartStore, times(1)).markDirty(2L);
+        verify(cartWriteBehind, never()).flush(4L);
+
+        // 3, 4 는 반영 중 목록에 남아 일정 시간 후 다시 반영
+        verify(cartStore, times(1)).completeDirty(List.of(1L, 2L));
+    }
+}
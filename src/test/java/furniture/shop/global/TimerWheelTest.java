@@ -0,0 +1,65 @@
+package furniture.shop.global;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    ExecutorService executor;
+    TimerWheel timerWheel;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+
+        // 한 바퀴 80ms 로 작게 두어 여러 바퀴 뒤 작업도 확인
+        timerWheel = new TimerWheel("test-wheel", 10L, 8, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timerWheel.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("만료 시각 순서대로 실행 테스트")
+    void 만료_순서_테스트() throws InterruptedException {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        long start = System.currentTimeMillis();
+
+        timerWheel.schedule(() -> { fired.add("c"); latch.countDown(); }, 250L);
+        timerWheel.schedule(() -> { fired.add("a"); latch.countDown(); }, 30L);
+        timerWheel.schedule(() -> { fired.add("b"); latch.countDown(); }, 120L);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+
+        assertEquals(List.of("a", "b", "c"), fired);
+        // 여러 바퀴 뒤 작업도 만료 시각 이전에 실행되지 않음
+        assertTrue(System.currentTimeMillis() - start >= 250L);
+        assertEquals(0, timerWheel.size());
+    }
+
+    @Test
+    @DisplayName("이미 지난 작업 바로 실행 테스트")
+    void 지난_작업_테스트() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timerWheel.schedule(latch::countDown, -1000L);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+}
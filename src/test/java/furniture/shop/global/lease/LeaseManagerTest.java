@@ -0,0 +1,103 @@
+package furniture.shop.global.lease;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaseManagerTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    LeaseManager leaseManager;
+
+    @BeforeEach
+    void setUp() {
+        leaseManager = new LeaseManager(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaseManager.shutdown();
+    }
+
+    @Test
+    @DisplayName("lease 획득 시 fencing token 발급 테스트")
+    void lease_획득_테스트() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("lease:job", "lease:job:fence")), anyString(), eq("60000"))).thenReturn(7L);
+
+        Lease lease = leaseManager.acquire("job", Duration.ofMinutes(1));
+
+        assertNotNull(lease);
+        assertEquals(7L, lease.getFencingToken());
+        assertTrue(lease.isValid());
+        assertFalse(lease.isLocal());
+        assertTrue(lease.getValue().endsWith(":7"));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 lease 를 가진 경우 테스트")
+    void lease_획득_실패_테스트() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenReturn(0L);
+
+        assertNull(leaseManager.acquire("job", Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 lease 없이 실행 테스트")
+    void Redis_장애_테스트() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        Lease lease = leaseManager.acquire("job", Duration.ofMinutes(1));
+
+        assertNotNull(lease);
+        assertTrue(lease.isLocal());
+
+        // 장애 후 잠시 Redis 를 호출하지 않음
+        assertTrue(leaseManager.acquire("job", Duration.ofMinutes(1)).isLocal());
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("lease 연장 실패 시 작업 중단 테스트")
+    void lease_연장_실패_테스트() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("lease:job", "lease:job:fence")), anyString(), anyString())).thenReturn(3L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("lease:job")), anyString(), anyString())).thenReturn(0L);
+
+        Lease lease = leaseManager.acquire("job", Duration.ofMinutes(1));
+
+        leaseManager.renew(lease, Duration.ofMinutes(1));
+
+        assertFalse(lease.isValid());
+        assertTrue(lease.getRenewal().isCancelled());
+    }
+
+    @Test
+    @DisplayName("lease 반환 테스트")
+    void lease_반환_테스트() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("lease:job", "lease:job:fence")), anyString(), anyString())).thenReturn(1L);
+
+        Lease lease = leaseManager.acquire("job", Duration.ofMinutes(1));
+
+        leaseManager.release(lease);
+
+        assertTrue(lease.getRenewal().isCancelled());
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("lease:job")), eq(lease.getValue()));
+    }
+}
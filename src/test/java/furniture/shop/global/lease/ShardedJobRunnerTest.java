@@ -0,0 +1,87 @@
+package furniture.shop.global.lease;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedJobRunnerTest {
+
+    @Mock
+    private LeaseManager leaseManager;
+
+    @InjectMocks
+    private ShardedJobRunner shardedJobRunner;
+
+    @Test
+    @DisplayName("lease 를 얻은 shard 만 실행 테스트")
+    void shard_실행_테스트() {
+        Lease lease0 = new Lease("job:0", "a:1", 1L);
+        Lease lease2 = new Lease("job:2", "a:2", 2L);
+
+        when(leaseManager.acquire(eq("job:0"), any())).thenReturn(lease0);
+        when(leaseManager.acquire(eq("job:1"), any())).thenReturn(null);
+        when(leaseManager.acquire(eq("job:2"), any())).thenReturn(lease2);
+
+        List<Integer> shards = new ArrayList<>();
+
+        int executed = shardedJobRunner.run("job", 3, Duration.ofMinutes(1), Duration.ofMinutes(10), (shard, shardCount, lease) -> {
+            shards.add(shard);
+
+            return true;
+        });
+
+        assertEquals(2, executed);
+        assertTrue(shards.containsAll(List.of(0, 2)));
+        assertFalse(shards.contains(1));
+        verify(leaseManager, times(1)).release(lease0, Duration.ofMinutes(10));
+        verify(leaseManager, times(1)).release(lease2, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("처리를 마치지 못한 shard 는 바로 반환 후 중단 테스트")
+    void shard_중단_테스트() {
+        when(leaseManager.acquire(any(), any())).thenAnswer(invocation -> new Lease(invocation.getArgument(0), "a:1", 1L));
+
+        int executed = shardedJobRunner.run("job", 3, Duration.ofMinutes(1), Duration.ofMinutes(10), (shard, shardCount, lease) -> false);
+
+        assertEquals(1, executed);
+        verify(leaseManager, times(1)).release(any(Lease.class), eq(Duration.ZERO));
+        verify(leaseManager, times(1)).acquire(any(), any());
+    }
+
+    @Test
+    @DisplayName("ID 구간 분할 테스트")
+    void ID_구간_분할_테스트() {
+        IdRange range = IdRange.of(1L, 10L);
+
+        long covered = 0L;
+        long nextFrom = range.getFromId();
+
+        for (int shard = 0; shard < 3; shard++) {
+            IdRange shardRange = range.shard(shard, 3);
+
+            // 빠지거나 겹치는 ID 가 없음
+            assertEquals(nextFrom, shardRange.getFromId());
+
+            covered += shardRange.getToId() - shardRange.getFromId();
+            nextFrom = shardRange.getToId();
+        }
+
+        assertEquals(10L, covered);
+        assertEquals(11L, nextFrom);
+        assertTrue(IdRange.of(5L, 5L).shard(0, 4).isEmpty());
+    }
+}
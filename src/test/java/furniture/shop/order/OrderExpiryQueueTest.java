@@ -0,0 +1,86 @@
+package furniture.shop.order;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExpiryQueueTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    OrderExpiryQueue orderExpiryQueue;
+
+    @BeforeEach
+    void setUp() {
+        orderExpiryQueue = new OrderExpiryQueue(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 커밋 후 만료 예약 테스트")
+    void 커밋_후_예약_테스트() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            orderExpiryQueue.schedule(1L);
+
+            verify(zSetOperations, never()).add(any(), any(), anyDouble());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(zSetOperations, times(1)).add(eq("orders:expiry"), eq("1"), anyDouble());
+    }
+
+    @Test
+    @DisplayName("만료 예정 주문 꺼내기 테스트")
+    void 만료_주문_조회_테스트() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("orders:expiry")), eq("5000"), eq("10")))
+                .thenReturn(List.of("1", "1000", "2", "4000.0"));
+
+        List<OrderExpiryQueue.DueOrder> dueOrders = orderExpiryQueue.popDue(5000L, 10);
+
+        assertEquals(List.of(new OrderExpiryQueue.DueOrder(1L, 1000L), new OrderExpiryQueue.DueOrder(2L, 4000L)), dueOrders);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 예약 건너뜀 테스트")
+    void Redis_장애_테스트() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.add(any(), any(), anyDouble())).thenThrow(new RedisConnectionFailureException("down"));
+
+        orderExpiryQueue.add(1L, 1000L);
+
+        // 장애 후 잠시 Redis 를 호출하지 않음
+        orderExpiryQueue.add(2L, 1000L);
+        assertTrue(orderExpiryQueue.popDue(5000L, 10).isEmpty());
+
+        verify(zSetOperations, times(1)).add(any(), any(), anyDouble());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any());
+    }
+}
@@ -41,6 +41,16 @@ class OrdersControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("주문 목록 커서 조회")
+    void 주문_목록_커서_조회_테스트() throws Exception {
+        mockMvc.perform(get("/orders/scroll")
+                .param("size", "10")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("단건 주문")
     void 단건_주문_테스트() throws Exception {
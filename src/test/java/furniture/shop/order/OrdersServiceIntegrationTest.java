@@ -3,7 +3,10 @@ package furniture.shop.order;
 import furniture.shop.cart.*;
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.configure.response.CursorResponse;
+import furniture.shop.credit.MerchantUID;
 import furniture.shop.global.WithMockCustomMember;
+import furniture.shop.global.lease.IdRange;
 import furniture.shop.global.embed.Address;
 import furniture.shop.member.Member;
 import furniture.shop.member.MemberRepository;
@@ -29,6 +32,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -45,6 +50,9 @@ public class OrdersServiceIntegrationTest {
     @Autowired
     private OrdersProductRepository ordersProductRepository;
 
+    @Autowired
+    private OrdersQueryRepository ordersQueryRepository;
+
     @Autowired
     private CartRepository cartRepository;
 
@@ -126,6 +134,105 @@ public class OrdersServiceIntegrationTest {
 
         assertNotNull(orders);
         assertEquals(orders.getOrdersProducts().get(0).getProduct().getProductCode(), product1.getProductCode());
+        // 주문 생성 시 주문 ID 를 포함한 가맹점 주문 번호 발급
+        assertEquals(orders.getId(), MerchantUID.parseOrderId(orders.getMerchantUID()));
+    }
+
+    @Test
+    @DisplayName("단건 주문 재고 예약 테스트")
+    @WithMockCustomMember
+    void 단건_주문_재고_예약_테스트() {
+        OrderSingleRequestDto orderSingleRequestDto = new OrderSingleRequestDto();
+
+        orderSingleRequestDto.setProductId(product1.getId());
+        orderSingleRequestDto.setCount(50);
+
+        ordersService.createSingleOrder(orderSingleRequestDto);
+        ordersService.createSingleOrder(orderSingleRequestDto);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(0, productRepository.findById(product1.getId()).get().getStock());
+
+        // 남은 재고 없음
+        CustomException customException = assertThrows(CustomException.class, () -> ordersService.createSingleOrder(orderSingleRequestDto));
+        assertEquals(CustomExceptionCode.NOT_ENOUGH_PRODUCT_EXCEPTION, customException.getCode());
+    }
+
+    @Test
+    @DisplayName("주문 만료 시 예약 재고 반환 테스트")
+    @WithMockCustomMember
+    void 주문_만료_재고_반환_테스트() {
+        OrderSingleRequestDto orderSingleRequestDto = new OrderSingleRequestDto();
+
+        orderSingleRequestDto.setProductId(product1.getId());
+        orderSingleRequestDto.setCount(30);
+
+        ordersService.createSingleOrder(orderSingleRequestDto);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Long ordersId = ordersRepository.findAll().get(0).getId();
+
+        assertEquals(70, productRepository.findById(product1.getId()).get().getStock());
+
+        entityManager.clear();
+
+        assertTrue(ordersService.expireOrder(ordersId));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(100, productRepository.findById(product1.getId()).get().getStock());
+        assertTrue(ordersRepository.findById(ordersId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("결제되지 않은 주문 일괄 만료 테스트")
+    @WithMockCustomMember
+    void 주문_일괄_만료_테스트() {
+        OrderSingleRequestDto orderSingleRequestDto = new OrderSingleRequestDto();
+
+        orderSingleRequestDto.setProductId(product1.getId());
+        orderSingleRequestDto.setCount(30);
+
+        ordersService.createSingleOrder(orderSingleRequestDto);
+        ordersService.createSingleOrder(orderSingleRequestDto);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(40, productRepository.findById(product1.getId()).get().getStock());
+
+        entityManager.clear();
+
+        LocalDateTime before = LocalDateTime.now().plusMinutes(1);
+        IdRange range = ordersQueryRepository.getEmptyOrderIdRange(before);
+
+        assertNotNull(range);
+
+        // 구간을 나누어도 모든 주문이 한 번씩 처리됨
+        int purged = 0;
+
+        for (int shard = 0; shard < 2; shard++) {
+            IdRange shardRange = range.shard(shard, 2);
+
+            while (ordersService.purgeEmptyOrders(before, shardRange, 1) == 1) {
+                purged++;
+            }
+        }
+
+        assertEquals(2, purged);
+        assertNull(ordersQueryRepository.getEmptyOrderIdRange(before));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(100, productRepository.findById(product1.getId()).get().getStock());
+        assertTrue(ordersRepository.findAll().isEmpty());
+        assertTrue(ordersProductRepository.findAll().isEmpty());
     }
 
     @Test
@@ -181,6 +288,12 @@ public class OrdersServiceIntegrationTest {
         assertNotNull(orders);
         assertEquals(orders.getOrdersProducts().get(0).getProduct().getProductName(), cartProduct1.getProduct().getProductName());
         assertEquals(orders.getOrdersProducts().get(1).getProduct().getProductName(), cartProduct2.getProduct().getProductName());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(90, productRepository.findById(product1.getId()).get().getStock());
+        assertEquals(0, productRepository.findById(product2.getId()).get().getStock());
     }
 
     @Test
@@ -230,6 +343,31 @@ public class OrdersServiceIntegrationTest {
         assertEquals(ordersList.getTotalElements(), 0);
     }
 
+    @Test
+    @DisplayName("주문 목록 커서 조회 테스트")
+    @WithMockCustomMember
+    void 주문_목록_커서_조회_테스트() {
+        for (int i = 0; i < 3; i++) {
+            Orders orders = Orders.createOrders(member);
+            OrdersProduct.createOrdersProduct(orders, product1, 1);
+            ordersRepository.save(orders);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        CursorResponse<OrdersListResponseDto> first = ordersService.getOrdersScroll(null, 2);
+
+        assertEquals(2, first.getContent().size());
+        assertTrue(first.isHasNext());
+
+        CursorResponse<OrdersListResponseDto> second = ordersService.getOrdersScroll(first.getNextCursor(), 2);
+
+        assertEquals(1, second.getContent().size());
+        assertFalse(second.isHasNext());
+        assertTrue(second.getContent().get(0).getOrderId() < first.getContent().get(1).getOrderId());
+    }
+
     @Test
     @DisplayName("정상 주문인지 확인 성공 테스트")
     @WithMockCustomMember
@@ -3,17 +3,25 @@ package furniture.shop.order;
 import furniture.shop.cart.Cart;
 import furniture.shop.cart.CartProduct;
 import furniture.shop.cart.CartRepository;
+import furniture.shop.cart.CartWriteBehind;
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.global.MemberAuthorizationUtil;
+import furniture.shop.global.ShopMetrics;
+import furniture.shop.global.lease.IdRange;
 import furniture.shop.global.embed.Address;
 import furniture.shop.member.Member;
 import furniture.shop.order.contsant.OrdersStatus;
 import furniture.shop.order.dto.OrderProductResponseDto;
 import furniture.shop.order.dto.OrderResponseDto;
 import furniture.shop.order.dto.OrderSingleRequestDto;
+import furniture.shop.order.dto.OrdersLineDto;
 import furniture.shop.order.dto.OrdersListResponseDto;
+import furniture.shop.outbox.OutboxPublisher;
+import furniture.shop.outbox.event.OrderCancelled;
+import furniture.shop.outbox.event.OrderCreated;
 import furniture.shop.product.Product;
 import furniture.shop.product.ProductRepository;
+import furniture.shop.product.ProductStockService;
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
 import furniture.shop.product.embed.ProductSize;
@@ -29,8 +37,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -62,6 +72,21 @@ class OrdersServiceTest {
     @Mock
     private OrdersQueryRepository ordersQueryRepository;
 
+    @Mock
+    private ProductStockService productStockService;
+
+    @Mock
+    private ShopMetrics shopMetrics;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Mock
+    private OrderExpiryQueue orderExpiryQueue;
+
+    @Mock
+    private CartWriteBehind cartWriteBehind;
+
     Member member;
     Product product;
     Product product2;
@@ -76,6 +101,8 @@ class OrdersServiceTest {
         setMember();
         setProduct();
 
+        when(productRepository.findById(any())).thenReturn(Optional.ofNullable(product));
+
         OrderSingleRequestDto orderSingleRequestDto = new OrderSingleRequestDto();
 
         orderSingleRequestDto.setCount(10);
@@ -84,6 +111,8 @@ class OrdersServiceTest {
         ordersService.createSingleOrder(orderSingleRequestDto);
 
         verify(ordersRepository, times(1)).save(any());
+        verify(outboxPublisher, times(1)).publish(any(OrderCreated.class));
+        verify(orderExpiryQueue, times(1)).schedule(any());
     }
 
     @Test
@@ -93,9 +122,12 @@ class OrdersServiceTest {
         setProduct();
         setCart();
 
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+
         ordersService.createCartOrder();
 
         verify(ordersRepository, times(1)).save(any());
+        verify(productRepository, never()).findById(any());
     }
 
     @Test
@@ -106,9 +138,12 @@ class OrdersServiceTest {
         setProduct2();
         setCart2();
 
+        when(productRepository.findAllById(any())).thenReturn(List.of(product, product2));
+
         ordersService.createCartOrder();
 
         verify(ordersRepository, times(1)).save(any());
+        verify(productRepository, times(1)).findAllById(any());
     }
 
     @Test
@@ -190,6 +225,41 @@ class OrdersServiceTest {
         Assertions.assertEquals(ordersList.getTotalPages(), pageListDto.getTotalPages());
     }
 
+    @Test
+    @DisplayName("결제되지 않은 주문 일괄 만료 테스트")
+    void 주문_일괄_만료_테스트() {
+        LocalDateTime before = LocalDateTime.now();
+        IdRange range = IdRange.of(1L, 2L);
+
+        when(ordersQueryRepository.getEmptyOrderIds(before, range, 500)).thenReturn(List.of(1L, 2L));
+        when(ordersQueryRepository.getOrdersLines(List.of(1L, 2L))).thenReturn(List.of(
+                new OrdersLineDto(1L, 10L, 100L, 3),
+                new OrdersLineDto(1L, 10L, 101L, 1),
+                new OrdersLineDto(2L, 11L, 100L, 2)));
+
+        Assertions.assertEquals(2, ordersService.purgeEmptyOrders(before, range, 500));
+
+        verify(productStockService, times(1)).release(Map.of(100L, 5, 101L, 1));
+        verify(outboxPublisher, times(2)).publish(any(OrderCancelled.class));
+        verify(ordersProductRepository, times(1)).deleteByOrdersIds(List.of(1L, 2L));
+        verify(ordersRepository, times(1)).deleteByIds(List.of(1L, 2L));
+        verify(ordersRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("만료할 주문이 없는 경우 테스트")
+    void 주문_일괄_만료_없음_테스트() {
+        LocalDateTime before = LocalDateTime.now();
+        IdRange range = IdRange.of(1L, 2L);
+
+        when(ordersQueryRepository.getEmptyOrderIds(before, range, 500)).thenReturn(List.of());
+
+        Assertions.assertEquals(0, ordersService.purgeEmptyOrders(before, range, 500));
+
+        verify(ordersQueryRepository, never()).getOrdersLines(any());
+        verify(ordersRepository, never()).deleteByIds(any());
+    }
+
     private void setMember() {
         member = Member.builder()
                 .address(new Address("12345", "서울시 강남구 강남대로 114", "테스트 빌딩 5층"))
@@ -217,7 +287,6 @@ class OrdersServiceTest {
                 .description("테스트 상품입니다.")
                 .build();
 
-        when(productRepository.findById(any())).thenReturn(Optional.ofNullable(product));
     }
 
     private void setProduct2() {
@@ -234,7 +303,6 @@ class OrdersServiceTest {
                 .description("테스트2 상품입니다.")
                 .build();
 
-        when(productRepository.findById(any())).thenReturn(Optional.ofNullable(product2));
     }
 
     void setCart() {
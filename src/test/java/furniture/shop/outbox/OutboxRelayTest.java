@@ -0,0 +1,87 @@
+package furniture.shop.outbox;
+
+import furniture.shop.outbox.constant.OutboxEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    @Test
+    @DisplayName("outbox 이벤트 발행 테스트")
+    void 이벤트_발행_테스트() {
+        OutboxEvent event1 = createEvent(1L);
+        OutboxEvent event2 = createEvent(2L);
+
+        when(outboxEventRepository.findForRelay(any(Pageable.class))).thenReturn(List.of(event1, event2));
+
+        assertEquals(2, outboxRelay.relay());
+
+        verify(outboxSink, times(1)).publish(event1);
+        verify(outboxSink, times(1)).publish(event2);
+        verify(outboxEventRepository, times(1)).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("발행 실패 시 이후 이벤트는 다음 주기에 발행 테스트")
+    void 이벤트_발행_실패_테스트() {
+        OutboxEvent event1 = createEvent(1L);
+        OutboxEvent event2 = createEvent(2L);
+        OutboxEvent event3 = createEvent(3L);
+
+        when(outboxEventRepository.findForRelay(any(Pageable.class))).thenReturn(List.of(event1, event2, event3));
+        doNothing().doThrow(new IllegalStateException("sink down")).when(outboxSink).publish(any(OutboxEvent.class));
+
+        assertEquals(1, outboxRelay.relay());
+
+        verify(outboxSink, times(2)).publish(any(OutboxEvent.class));
+        verify(outboxSink, never()).publish(event3);
+        verify(outboxEventRepository, times(1)).markPublished(eq(List.of(1L)), any(LocalDateTime.class));
+
+        // 발행 대상 장애 중에는 잠시 조회하지 않음
+        assertEquals(0, outboxRelay.relay());
+        verify(outboxEventRepository, times(1)).findForRelay(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("발행할 이벤트가 없는 경우 테스트")
+    void 이벤트_없음_테스트() {
+        when(outboxEventRepository.findForRelay(any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, outboxRelay.relay());
+
+        verify(outboxSink, never()).publish(any());
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+    }
+
+    private OutboxEvent createEvent(Long id) {
+        OutboxEvent event = OutboxEvent.createOutboxEvent(OutboxEventType.ORDER_CREATED, id, "{}");
+
+        ReflectionTestUtils.setField(event, "id", id);
+
+        return event;
+    }
+}
@@ -1,6 +1,7 @@
 package furniture.shop.product;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import furniture.shop.global.ProductSearchIndexScheduling;
 import furniture.shop.global.WithMockCustomMember;
 import furniture.shop.member.constant.MemberRole;
 import furniture.shop.product.constant.ProductCategory;
@@ -40,6 +41,9 @@ public class ProductControllerIntegrationTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductSearchIndexScheduling productSearchIndexScheduling;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -72,6 +76,9 @@ public class ProductControllerIntegrationTest {
         entityManager.flush();
         entityManager.clear();
 
+        // 저장소로 직접 저장한 상품은 주기적 색인으로 반영
+        productSearchIndexScheduling.catchUp();
+
         mockMvc.perform(get("/product")
                 .contentType(MediaType.APPLICATION_JSON)
                 .param("productName", "product"))
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.configure.response.CursorResponse;
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
 import furniture.shop.product.dto.*;
@@ -19,6 +20,7 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.parameters.P;
 import org.springframework.test.context.ActiveProfiles;
@@ -31,6 +33,7 @@ import java.util.Random;
 
 import static org.awaitility.Awaitility.given;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -77,6 +80,47 @@ class ProductControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("조회 테스트 - 후보 상품 ID 는 요청으로 바인딩되지 않음")
+    void 조회_후보_ID_바인딩_테스트() throws Exception {
+        setUp();
+
+        mockMvc.perform(get("/product?productName=name&productIds=1,2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        Mockito.verify(productService).getProductList(Mockito.argThat(condition ->
+                "name".equals(condition.getProductName()) && condition.getProductIds() == null), any());
+    }
+
+    @Test
+    @DisplayName("전체 개수 없이 조회 테스트")
+    void 전체_개수_없이_조회_테스트() throws Exception {
+        when(productService.getProductSlice(any(), any())).thenReturn(new SliceImpl<>(new ArrayList<>(), PageRequest.of(0, 10), false));
+
+        mockMvc.perform(get("/product?productName=name&withTotal=false")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        Mockito.verify(productService, Mockito.never()).getProductList(any(), any());
+    }
+
+    @Test
+    @DisplayName("커서 조회 테스트")
+    void 커서_조회_테스트() throws Exception {
+        when(productService.getProductScroll(any(), any(), anyInt())).thenReturn(new CursorResponse<>(new ArrayList<>(), null));
+
+        mockMvc.perform(get("/product/scroll?productName=name&size=10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("상품 등록 테스트")
     void 상품_등록_테스트() throws Exception {
@@ -0,0 +1,74 @@
+package furniture.shop.product;
+
+import furniture.shop.product.constant.ProductCategory;
+import furniture.shop.product.constant.ProductStatus;
+import furniture.shop.product.dto.ProductCountDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class ProductCountCacheTest {
+
+    ProductCountCache productCountCache;
+
+    @BeforeEach
+    void setUp() {
+        productCountCache = new ProductCountCache();
+
+        productCountCache.reload(List.of(
+                new ProductCountDto(ProductCategory.CHAIR, ProductStatus.SELLING, 3L),
+                new ProductCountDto(ProductCategory.CHAIR, ProductStatus.STOP, 1L),
+                new ProductCountDto(ProductCategory.BED, ProductStatus.SELLING, 2L),
+                new ProductCountDto(ProductCategory.BED, null, 4L)
+        ));
+    }
+
+    @Test
+    @DisplayName("카테고리, 상태별 개수 테스트")
+    void 카테고리_상태별_개수_테스트() {
+        Assertions.assertEquals(10L, productCountCache.getCount(null, null));
+        Assertions.assertEquals(4L, productCountCache.getCount(ProductCategory.CHAIR, null));
+        Assertions.assertEquals(5L, productCountCache.getCount(null, ProductStatus.SELLING));
+        Assertions.assertEquals(6L, productCountCache.getCount(ProductCategory.BED, null));
+        Assertions.assertEquals(0L, productCountCache.getCount(ProductCategory.BED, ProductStatus.READY));
+    }
+
+    @Test
+    @DisplayName("상품 등록, 상태 변경 반영 테스트")
+    void 상품_등록_상태_변경_반영_테스트() {
+        productCountCache.increase(ProductCategory.CHAIR, ProductStatus.READY);
+        productCountCache.move(ProductCategory.CHAIR, ProductStatus.SELLING, ProductStatus.STOP);
+
+        Assertions.assertEquals(1L, productCountCache.getCount(ProductCategory.CHAIR, ProductStatus.READY));
+        Assertions.assertEquals(2L, productCountCache.getCount(ProductCategory.CHAIR, ProductStatus.SELLING));
+        Assertions.assertEquals(2L, productCountCache.getCount(ProductCategory.CHAIR, ProductStatus.STOP));
+    }
+
+    @Test
+    @DisplayName("검색어 개수 캐시 테스트")
+    void 검색어_개수_캐시_테스트() {
+        ProductCountCache.KeywordKey key = new ProductCountCache.KeywordKey(null, "의자", null, null);
+
+        Assertions.assertNull(productCountCache.getKeywordCount(key));
+
+        productCountCache.putKeywordCount(key, 7L);
+
+        Assertions.assertEquals(7L, productCountCache.getKeywordCount(new ProductCountCache.KeywordKey(null, "의자", null, null)));
+
+        // 상품 변경 시 검색어 개수 캐시 초기화
+        productCountCache.increase(ProductCategory.CHAIR, ProductStatus.SELLING);
+
+        Assertions.assertNull(productCountCache.getKeywordCount(key));
+    }
+
+    @Test
+    @DisplayName("검색어 개수 캐시 테스트 - 구분자가 포함된 검색어")
+    void 검색어_구분자_캐시_테스트() {
+        productCountCache.putKeywordCount(new ProductCountCache.KeywordKey("a|b", "c", null, null), 3L);
+
+        Assertions.assertNull(productCountCache.getKeywordCount(new ProductCountCache.KeywordKey("a", "b|c", null, null)));
+    }
+}
@@ -0,0 +1,154 @@
+package furniture.shop.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import furniture.shop.global.ShopMetrics;
+import furniture.shop.product.dto.ProductDetailDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductDetailCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    ProductDetailCache productDetailCache;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        productDetailCache = new ProductDetailCache(redisTemplate, redisMessageListenerContainer,
+                new ObjectMapper().registerModule(new JavaTimeModule()), new ShopMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("로컬 캐시 조회 테스트")
+    void 로컬_캐시_조회_테스트() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("product:detail:1", "product:detail:version:1"))).thenReturn(Arrays.asList(null, "2"));
+
+        ProductDetailDto first = productDetailCache.get(1L, this::load);
+        ProductDetailDto second = productDetailCache.get(1L, this::load);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, loadCount.get());
+        Assertions.assertEquals(1, meterRegistry.get("shop.cache").tag("result", "miss").counter().count());
+        Assertions.assertEquals(1, meterRegistry.get("shop.cache").tag("result", "local").counter().count());
+        // 조회 전에 읽은 버전과 같을 때만 저장
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("product:detail:1", "product:detail:version:1")), eq("2"), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 캐시 조회 테스트")
+    void Redis_캐시_조회_테스트() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("product:detail:1", "product:detail:version:1"))).thenReturn(List.of("{\"productCode\":\"code-1\",\"reviewDtoList\":[]}", "0"));
+
+        ProductDetailDto productDetailDto = productDetailCache.get(1L, this::load);
+
+        Assertions.assertEquals("code-1", productDetailDto.getProductCode());
+        Assertions.assertEquals(0, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("삭제 메시지 구독 테스트 - 다른 채널이 이미 구독 중")
+    void 삭제_메시지_구독_테스트() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisMessageListenerContainer.isRunning()).thenReturn(true);
+        lenient().when(redisMessageListenerContainer.isListening()).thenReturn(true);
+
+        productDetailCache.get(1L, this::load);
+        productDetailCache.get(2L, this::load);
+
+        // 컨테이너가 이미 다른 채널을 구독 중이어도 한 번만 구독
+        verify(redisMessageListenerContainer, times(1)).addMessageListener(eq(productDetailCache), any(ChannelTopic.class));
+    }
+
+    @Test
+    @DisplayName("캐시 삭제 테스트")
+    void 캐시_삭제_테스트() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        productDetailCache.get(1L, this::load);
+        productDetailCache.evict(1L);
+        productDetailCache.get(1L, this::load);
+
+        Assertions.assertEquals(2, loadCount.get());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("product:detail:1", "product:detail:version:1")), anyString());
+        verify(redisTemplate).convertAndSend("product:detail:evict", "1");
+    }
+
+    @Test
+    @DisplayName("조회 중 상품 변경 시 이전 버전으로 저장 테스트")
+    void 조회_중_변경_테스트() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("product:detail:1", "product:detail:version:1"))).thenReturn(Arrays.asList(null, null));
+
+        // DB 조회 중 다른 요청이 상품을 변경하여 캐시 삭제 (버전 증가)
+        productDetailCache.get(1L, productId -> {
+            productDetailCache.evict(productId);
+
+            return load(productId);
+        });
+
+        // 조회 전에 읽은 버전(없으면 0)으로 저장을 요청하므로 증가된 버전과 달라 저장되지 않음
+        InOrder inOrder = inOrder(redisTemplate);
+        inOrder.verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("product:detail:1", "product:detail:version:1")), anyString());
+        inOrder.verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("product:detail:1", "product:detail:version:1")), eq("0"), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 조회 테스트")
+    void Redis_장애_테스트() {
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        productDetailCache.get(1L, this::load);
+        productDetailCache.get(2L, this::load);
+
+        Assertions.assertEquals(2, loadCount.get());
+
+        // 장애 이후 대기 시간 동안 Redis 재시도 X
+        verify(redisTemplate, times(1)).opsForValue();
+    }
+
+    private ProductDetailDto load(Long productId) {
+        loadCount.incrementAndGet();
+
+        ProductDetailDto productDetailDto = new ProductDetailDto();
+        productDetailDto.setProductCode("code-" + productId);
+
+        return productDetailDto;
+    }
+}
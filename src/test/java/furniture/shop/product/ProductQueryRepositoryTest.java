@@ -1,10 +1,18 @@
 package furniture.shop.product;
 
 import furniture.shop.global.TestQueryDslConfig;
+import furniture.shop.global.embed.Address;
+import furniture.shop.member.Member;
+import furniture.shop.member.MemberRepository;
+import furniture.shop.member.constant.MemberGender;
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
 import furniture.shop.product.dto.ProductListDto;
 import furniture.shop.product.dto.ProductSearchCondition;
+import furniture.shop.review.Review;
+import furniture.shop.review.ReviewRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +36,15 @@ public class ProductQueryRepositoryTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     void setUp() {
         for (int i = 0; i <= 15; i++) {
             productRepository.save(Product.builder()
@@ -54,4 +71,69 @@ public class ProductQueryRepositoryTest {
         Assertions.assertEquals(productListDtos.getTotalPages(), 2);
     }
 
+    @Test
+    @DisplayName("검색어의 %, _ 는 문자 그대로 비교 테스트")
+    void 검색어_와일드카드_테스트() {
+        setUp();
+
+        productRepository.save(Product.builder()
+                .productCategory(ProductCategory.CHAIR)
+                .productStatus(ProductStatus.SELLING)
+                .productName("name_100%")
+                .productCode("code_100")
+                .description("description")
+                .build());
+
+        ProductSearchCondition underscore = new ProductSearchCondition();
+        underscore.setProductName("e_1");
+
+        ProductSearchCondition percent = new ProductSearchCondition();
+        percent.setProductName("name%1");
+
+        ProductSearchCondition code = new ProductSearchCondition();
+        code.setProductCode("_");
+
+        Assertions.assertEquals(1, repository.searchProductPage(underscore, PageRequest.of(0, 10)).getTotalElements());
+        Assertions.assertEquals(0, repository.searchProductPage(percent, PageRequest.of(0, 10)).getTotalElements());
+        Assertions.assertEquals(1, repository.searchProductPage(code, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("리뷰 집계 보정 테스트")
+    void 리뷰_집계_보정_테스트() {
+        Product product = productRepository.save(Product.builder()
+                .productCategory(ProductCategory.CHAIR)
+                .productStatus(ProductStatus.SELLING)
+                .productName("name")
+                .productCode("code")
+                .description("description")
+                .build());
+
+        for (int i = 1; i <= 2; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .username("테스터" + i)
+                    .email("test" + i + "@test.com")
+                    .password("password")
+                    .phone("01012341234")
+                    .gender(MemberGender.MALE)
+                    .address(new Address("11232", "서울시 서울구 서울로", "11 서울아파트 11동 111호"))
+                    .build());
+
+            reviewRepository.save(Review.createReview(product, member, "리뷰" + i, 2.0 + i));
+        }
+
+        entityManager.flush();
+
+        // 집계가 어긋난 상황
+        entityManager.createQuery("update Product p set p.reviewCount = 10, p.reviewRateSum = 0").executeUpdate();
+
+        repository.reconcileReviewAggregate(0L, product.getId());
+
+        entityManager.clear();
+
+        Product findProduct = productRepository.findById(product.getId()).get();
+
+        Assertions.assertEquals(2, findProduct.getReviewCount());
+        Assertions.assertEquals(3.5, findProduct.getAverageRate());
+    }
 }
@@ -0,0 +1,58 @@
+package furniture.shop.product;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+class ProductSearchIndexTest {
+
+    ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex();
+
+        productSearchIndex.add(1L, "chair-1111", "원목 의자");
+        productSearchIndex.add(2L, "chair-2222", "사무용 의자");
+        productSearchIndex.add(3L, "bed-1111", "원목 침대");
+    }
+
+    @Test
+    @DisplayName("한글 상품명 검색 테스트")
+    void 한글_상품명_검색_테스트() {
+        Assertions.assertEquals(Set.of(1L, 3L), productSearchIndex.search(null, "원목"));
+        Assertions.assertEquals(Set.of(1L, 2L), productSearchIndex.search(null, "의자"));
+        Assertions.assertEquals(Set.of(2L), productSearchIndex.search(null, "사무용의자"));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색 테스트")
+    void 한_글자_검색_테스트() {
+        Assertions.assertEquals(Set.of(3L), productSearchIndex.search(null, "침"));
+    }
+
+    @Test
+    @DisplayName("상품코드 + 상품명 검색 테스트")
+    void 상품코드_상품명_검색_테스트() {
+        Assertions.assertEquals(Set.of(1L), productSearchIndex.search("CHAIR", "원목"));
+        Assertions.assertEquals(Set.of(1L, 3L), productSearchIndex.search("1111", null));
+    }
+
+    @Test
+    @DisplayName("검색 결과 없음 테스트")
+    void 검색_결과_없음_테스트() {
+        Assertions.assertTrue(productSearchIndex.search(null, "소파").isEmpty());
+        Assertions.assertNull(productSearchIndex.search("", " "));
+    }
+
+    @Test
+    @DisplayName("마지막 색인 ID 테스트")
+    void 마지막_색인_ID_테스트() {
+        productSearchIndex.add(2L, "chair-2222", "사무용 의자");
+
+        Assertions.assertEquals(3L, productSearchIndex.getLastProductId());
+    }
+}
@@ -0,0 +1,69 @@
+package furniture.shop.product;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSellCountServiceTest {
+
+    @InjectMocks
+    private ProductSellCountService productSellCountService;
+
+    @Mock
+    private ProductSellCountRepository productSellCountRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Test
+    @DisplayName("판매량 반영 테스트")
+    void 판매량_반영_테스트() {
+        List<ProductSellCount> sellCounts = new ArrayList<>();
+
+        sellCounts.add(sellCount(1L, 1L, 5));
+        sellCounts.add(sellCount(2L, 2L, 3));
+        sellCounts.add(sellCount(3L, 1L, 2));
+        sellCounts.add(sellCount(4L, 2L, -3));
+
+        when(productSellCountRepository.findForFlush(any())).thenReturn(sellCounts);
+
+        Assertions.assertEquals(4, productSellCountService.flush());
+
+        // 상품별로 합산하여 한 번씩만 반영, 합계가 0 이면 반영 X
+        verify(productRepository, times(1)).addSellingCount(1L, 7L);
+        verify(productRepository, never()).addSellingCount(eq(2L), anyLong());
+        verify(productSellCountRepository, times(1)).deleteByIds(List.of(1L, 2L, 3L, 4L));
+    }
+
+    @Test
+    @DisplayName("반영할 기록 없음 테스트")
+    void 반영할_기록_없음_테스트() {
+        when(productSellCountRepository.findForFlush(any())).thenReturn(new ArrayList<>());
+
+        Assertions.assertEquals(0, productSellCountService.flush());
+
+        verify(productSellCountRepository, never()).deleteByIds(any());
+    }
+
+    private ProductSellCount sellCount(Long id, Long productId, int count) {
+        ProductSellCount sellCount = ProductSellCount.createProductSellCount(productId, count);
+        ReflectionTestUtils.setField(sellCount, "id", id);
+
+        return sellCount;
+    }
+}
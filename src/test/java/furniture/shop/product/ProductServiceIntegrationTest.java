@@ -2,6 +2,8 @@ package furniture.shop.product;
 
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.configure.response.CursorResponse;
+import furniture.shop.global.ProductSearchIndexScheduling;
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
 import furniture.shop.product.dto.*;
@@ -15,11 +17,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 
 @SpringBootTest
@@ -36,6 +38,9 @@ public class ProductServiceIntegrationTest {
     @Autowired
     private ProductQueryRepository productQueryRepository;
 
+    @Autowired
+    private ProductSearchIndexScheduling productSearchIndexScheduling;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -107,6 +112,9 @@ public class ProductServiceIntegrationTest {
         entityManager.flush();
         entityManager.clear();
 
+        // 저장소로 직접 저장한 상품은 주기적 색인으로 반영
+        productSearchIndexScheduling.catchUp();
+
         ProductSearchCondition condition = new ProductSearchCondition();
         condition.setProductName("product");
         Pageable pageable = PageRequest.of(0, 10);
@@ -377,4 +385,101 @@ public class ProductServiceIntegrationTest {
 
         assertEquals(CustomExceptionCode.NOT_VALID_ERROR, customException.getCode());
     }
+
+    @Test
+    @DisplayName("상품 커서 조회 테스트")
+    void 상품_커서_조회_테스트() {
+        for (int i = 0; i < 5; i++) {
+            productRepository.save(Product.builder()
+                    .productCode("code-" + i)
+                    .productName("product" + i)
+                    .productCategory(ProductCategory.CHAIR)
+                    .stock(10)
+                    .price(10000)
+                    .size(new ProductSize(10.5, 10.2, 10.4))
+                    .description("테스트 상품입니다.")
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        CursorResponse<ProductListDto> first = productService.getProductScroll(new ProductSearchCondition(), null, 3);
+
+        assertEquals(3, first.getContent().size());
+        assertTrue(first.isHasNext());
+
+        CursorResponse<ProductListDto> second = productService.getProductScroll(new ProductSearchCondition(), first.getNextCursor(), 3);
+
+        assertEquals(2, second.getContent().size());
+        assertFalse(second.isHasNext());
+        assertEquals("product3", second.getContent().get(0).getProductName());
+    }
+
+    @Test
+    @DisplayName("상품 커서 조회 실패 테스트 - 잘못된 커서")
+    void 상품_커서_조회_실패_테스트() {
+        CustomException customException = assertThrows(CustomException.class,
+                () -> productService.getProductScroll(new ProductSearchCondition(), "not-a-cursor", 10));
+
+        assertEquals(CustomExceptionCode.NOT_VALID_ERROR, customException.getCode());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 전체 개수 없이 조회")
+    void 상품_목록_조회_전체_개수_없이() {
+        for (int i = 0; i < 5; i++) {
+            productRepository.save(Product.builder()
+                    .productCode("code-" + i)
+                    .productName("product" + i)
+                    .productCategory(ProductCategory.CHAIR)
+                    .stock(10)
+                    .price(10000)
+                    .size(new ProductSize(10.5, 10.2, 10.4))
+                    .description("테스트 상품입니다.")
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Slice<ProductListDto> first = productService.getProductSlice(new ProductSearchCondition(), PageRequest.of(0, 3));
+
+        assertEquals(3, first.getContent().size());
+        assertTrue(first.hasNext());
+
+        Slice<ProductListDto> second = productService.getProductSlice(new ProductSearchCondition(), PageRequest.of(1, 3));
+
+        assertEquals(2, second.getContent().size());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 검색어 전체 개수 조회")
+    void 상품_목록_조회_검색어_전체_개수() {
+        for (int i = 0; i < 5; i++) {
+            productRepository.save(Product.builder()
+                    .productCode("count-" + i)
+                    .productName("개수테스트" + i)
+                    .productCategory(ProductCategory.CHAIR)
+                    .stock(10)
+                    .price(10000)
+                    .size(new ProductSize(10.5, 10.2, 10.4))
+                    .description("테스트 상품입니다.")
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        productSearchIndexScheduling.catchUp();
+
+        ProductSearchCondition condition = new ProductSearchCondition();
+        condition.setProductName("개수테스트");
+
+        Page<ProductListDto> productList = productService.getProductList(condition, PageRequest.of(0, 2));
+
+        assertEquals(2, productList.getContent().size());
+        assertEquals(5, productList.getTotalElements());
+    }
 }
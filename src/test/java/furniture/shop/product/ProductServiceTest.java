@@ -2,11 +2,13 @@ package furniture.shop.product;
 
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.global.ShopMetrics;
 import furniture.shop.global.TestQueryDslConfig;
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
 import furniture.shop.product.dto.*;
 import furniture.shop.product.embed.ProductSize;
+import furniture.shop.review.ReviewQueryRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,13 +22,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @Import(TestQueryDslConfig.class)
@@ -44,6 +49,24 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductCountCache productCountCache;
+
+    @Mock
+    private ReviewQueryRepository reviewQueryRepository;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Mock
+    private ShopMetrics shopMetrics;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     Product product;
 
     @Test
@@ -62,7 +85,7 @@ class ProductServiceTest {
 
         Page<ProductListDto> pageListDto = new PageImpl<>(productListDtoList, pageable, 11);
 
-        when(productQueryRepository.searchProductPage(productSearchCondition, pageable)).thenReturn(pageListDto);
+        when(productQueryRepository.searchProductPage(eq(productSearchCondition), eq(pageable), any())).thenReturn(pageListDto);
 
         Page<ProductListDto> productList = productService.getProductList(productSearchCondition, pageable);
 
@@ -101,6 +124,7 @@ class ProductServiceTest {
     @DisplayName("상품 조회 테스트")
     void 상품_조회_테스트() {
         setUp();
+        loadThroughCache();
 
         ProductDetailDto productDetail = productService.getProductDetail(product.getId());
 
@@ -111,9 +135,10 @@ class ProductServiceTest {
     @Test
     @DisplayName("상품 조회 실패 테스트")
     void 상품_조회_실패_테스트() {
+        loadThroughCache();
         when(productRepository.findById(any())).thenThrow(CustomException.class);
 
-        Assertions.assertThrows(CustomException.class, () -> productService.getProductDetail(any()));
+        Assertions.assertThrows(CustomException.class, () -> productService.getProductDetail(0L));
     }
 
     @Test
@@ -141,6 +166,12 @@ class ProductServiceTest {
         Assertions.assertThrows(CustomException.class, () -> productService.updateProduct(0L, productUpdateDto));
     }
 
+    // 캐시에 없는 경우처럼 loader 로 조회
+    void loadThroughCache() {
+        when(productDetailCache.get(any(), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, ProductDetailDto>>getArgument(1).apply(invocation.getArgument(0)));
+    }
+
     void setUp() {
         product = Product.builder()
                 .productName("테스트 상품")
@@ -1,6 +1,7 @@
 package furniture.shop.review;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import furniture.shop.configure.response.CursorResponse;
 import furniture.shop.review.dto.ReviewAddRequestDto;
 import furniture.shop.review.dto.ReviewEditRequestDto;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +18,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import java.util.ArrayList;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -33,6 +36,19 @@ class ReviewControllerTest {
     @MockBean
     private ReviewService reviewService;
 
+    @Test
+    @DisplayName("리뷰 커서 조회 테스트")
+    void 리뷰_커서_조회_테스트() throws Exception {
+        Mockito.when(reviewService.getReviewScroll(Mockito.anyLong(), Mockito.any(), Mockito.anyInt()))
+                .thenReturn(new CursorResponse<>(new ArrayList<>(), null));
+
+        mockMvc.perform(get("/product/{id}/reviews", 1)
+                        .param("size", "10")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("리뷰 등록 성공 테스트")
     void 리뷰_등록_성공_테스트() throws Exception {
@@ -2,6 +2,7 @@ package furniture.shop.review;
 
 import furniture.shop.configure.exception.CustomException;
 import furniture.shop.configure.exception.CustomExceptionCode;
+import furniture.shop.configure.response.CursorResponse;
 import furniture.shop.global.WithMockCustomMember;
 import furniture.shop.global.embed.Address;
 import furniture.shop.member.Member;
@@ -17,6 +18,7 @@ import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.embed.ProductSize;
 import furniture.shop.review.dto.ReviewAddRequestDto;
 import furniture.shop.review.dto.ReviewEditRequestDto;
+import furniture.shop.review.dto.ReviewResponseDto;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -110,6 +112,15 @@ public class ReviewServiceIntegrationTest {
         assertEquals(product.getId(), review.getProduct().getId());
         assertEquals("테스트 리뷰입니다.", review.getComment());
         assertEquals(member.getId(), review.getMember().getId());
+
+        // 리뷰 집계는 update 쿼리로 반영되므로 DB 에서 다시 조회
+        entityManager.flush();
+        entityManager.clear();
+
+        Product findProduct = productRepository.findById(product.getId()).get();
+
+        assertEquals(1, findProduct.getReviewCount());
+        assertEquals(2.9, findProduct.getAverageRate());
     }
 
     @Test
@@ -278,4 +289,46 @@ public class ReviewServiceIntegrationTest {
         CustomException customException = assertThrows(CustomException.class, () -> reviewService.deleteReview(review.getId()));
         assertEquals(CustomExceptionCode.NOT_VALID_AUTH_ERROR, customException.getCode());
     }
+
+    @Test
+    @DisplayName("리뷰 커서 조회 테스트")
+    void 리뷰_커서_조회_테스트() {
+        reviewRepository.save(Review.createReview(product, member, "테스트 리뷰1", 2.9));
+
+        for (int i = 2; i <= 3; i++) {
+            Member writer = memberRepository.save(Member.builder()
+                    .username("테스터" + i)
+                    .email("test" + i + "@test" + i + ".com")
+                    .password("password")
+                    .phone("01012341234")
+                    .gender(MemberGender.MALE)
+                    .address(new Address("11232", "서울시 서울구 서울로", "11 서울아파트 11동 111호"))
+                    .build());
+
+            reviewRepository.save(Review.createReview(product, writer, "테스트 리뷰" + i, 4.0));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        CursorResponse<ReviewResponseDto> first = reviewService.getReviewScroll(product.getId(), null, 2);
+
+        assertEquals(2, first.getContent().size());
+        assertTrue(first.isHasNext());
+        assertEquals("테스트 리뷰3", first.getContent().get(0).getComment());
+        assertEquals("테스터3", first.getContent().get(0).getUsername());
+
+        CursorResponse<ReviewResponseDto> second = reviewService.getReviewScroll(product.getId(), first.getNextCursor(), 2);
+
+        assertEquals(1, second.getContent().size());
+        assertFalse(second.isHasNext());
+        assertEquals("테스트 리뷰1", second.getContent().get(0).getComment());
+    }
+
+    @Test
+    @DisplayName("리뷰 커서 조회 실패 테스트 - 상품 오류")
+    void 리뷰_커서_조회_실패_테스트_상품() {
+        CustomException customException = assertThrows(CustomException.class, () -> reviewService.getReviewScroll(0L, null, 10));
+        assertEquals(CustomExceptionCode.NOT_VALID_ERROR, customException.getCode());
+    }
 }
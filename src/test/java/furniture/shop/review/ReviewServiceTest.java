@@ -9,6 +9,7 @@ import furniture.shop.order.OrdersProduct;
 import furniture.shop.order.OrdersRepository;
 import furniture.shop.order.contsant.OrdersStatus;
 import furniture.shop.product.Product;
+import furniture.shop.product.ProductDetailCache;
 import furniture.shop.product.ProductRepository;
 import furniture.shop.product.constant.ProductCategory;
 import furniture.shop.product.constant.ProductStatus;
@@ -30,6 +31,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ActiveProfiles("test")
@@ -51,6 +54,12 @@ class ReviewServiceTest {
     @Mock
     private OrdersRepository ordersRepository;
 
+    @Mock
+    private ReviewQueryRepository reviewQueryRepository;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
     Member member;
     Product product;
     Orders orders;
@@ -101,6 +110,7 @@ class ReviewServiceTest {
         reviewService.addReview(reviewAddRequestDto);
 
         assertEquals(2, product.getReviews().size());
+        verify(productRepository, times(1)).addReviewRate(product.getId(), 2.0);
     }
 
     @Test
@@ -166,6 +176,7 @@ class ReviewServiceTest {
 
         assertEquals("수정된 리뷰입니다.", review.getComment());
         assertEquals(2.7, review.getRate());
+        verify(productRepository, times(1)).changeReviewRate(product.getId(), 2.7 - 5.0);
     }
 
     @Test